@@ -0,0 +1,298 @@
+package org.example.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.listener.PostgresNotificationListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Invalidation bus between application instances, built on PostgreSQL `LISTEN/NOTIFY`.
+ * Changes are sent with `pg_notify` right before the transaction that makes them commits, so PostgreSQL delivers
+ * the message to the other instances exactly when the change commits and drops it on rollback; a crash after
+ * the commit cannot lose it. The other instances apply the message to their local caches as a {@link CacheInvalidationEvent}.
+ * The sending instance has already invalidated its own caches, so it ignores its own messages.
+ * <p>
+ * Every message carries a sequence number of the sending instance. A receiver tracks the highest number seen
+ * from each instance and the numbers skipped before it. Transactions may commit in a different order than
+ * they took their numbers, so a skipped number is only treated as a lost message if it has not arrived within
+ * `cache.invalidation.gap-timeout-ms`; then all local caches are flushed. A transaction that fails after taking
+ * its number also leaves such a gap and causes an unneeded, but harmless, flush.
+ * The first message received from an instance sets the starting point for that instance.
+ * All local caches are also flushed every time listening starts, since messages may have been missed
+ * before it started or while the connection was down.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final String CHANNEL = "cache_invalidation";
+
+    private static final long NODE_IDLE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final int MAX_SKIPPED = 1000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<String, NodeSequence> nodeSequences = new HashMap<>();
+
+    private final long gapTimeoutMillis;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+
+    private final Counter receivedCounter;
+
+    private final Counter flushCounter;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher applicationEventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                PostgresNotificationListener postgresNotificationListener,
+                                MeterRegistry meterRegistry,
+                                @Value("${cache.invalidation.gap-timeout-ms:5000}") long gapTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+
+        // Messages published outside a read-write transaction are sent in a transaction of their own on the primary.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(false);
+
+        this.publishedCounter = Counter.builder("cache.invalidation.published")
+                .description("Number of invalidation messages sent to other instances")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("cache.invalidation.received")
+                .description("Number of invalidation messages received from other instances")
+                .register(meterRegistry);
+        this.flushCounter = Counter.builder("cache.invalidation.flushes")
+                .description("Number of full local cache flushes after possibly missed invalidation messages")
+                .register(meterRegistry);
+
+        postgresNotificationListener.subscribe(CHANNEL, this::receive);
+        postgresNotificationListener.onConnect(() -> {
+            resetSequences();
+            flushAll("listening for invalidations has (re)started");
+        });
+    }
+
+    /**
+     * Publish the change of an entity without a version to the other application instances.
+     *
+     * @param type Type of the changed entity.
+     * @param id   ID of the changed entity (username for users, user ID for token versions),
+     *             or `null` if any entity of the type may have changed.
+     * @see #publish(CacheInvalidationEvent.Type, Object, Integer)
+     */
+    public void publish(CacheInvalidationEvent.Type type, Object id) {
+        publish(type, id, null);
+    }
+
+    /**
+     * Publish the change of an entity to the other application instances.
+     * Inside a read-write transaction the message is sent right before the commit and is delivered only if
+     * the transaction commits; a failure to send it fails the transaction, so a committed change is never
+     * left unannounced. Taking the sequence number right before the commit keeps the numbers close
+     * to the commit order.
+     *
+     * @param type    Type of the changed entity.
+     * @param id      ID of the changed entity (username for users, user ID for token versions),
+     *                or `null` if any entity of the type may have changed.
+     * @param version Version of the entity after the change, or `null` if it has no version or was deleted.
+     */
+    public void publish(CacheInvalidationEvent.Type type, Object id, Integer version) {
+        String entityId = id != null ? String.valueOf(id) : null;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(type, entityId, version);
+                }
+            });
+        } else {
+            transactionTemplate.executeWithoutResult(status -> send(type, entityId, version));
+        }
+    }
+
+    /**
+     * Flush all local caches if a skipped sequence number of another instance has not arrived in time,
+     * and forget instances that have not sent anything for a long time.
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.gap-timeout-ms:5000}")
+    public void checkGaps() {
+        if (expireGaps(System.currentTimeMillis())) {
+            flushAll("invalidation messages from another instance are missing");
+        }
+    }
+
+    private void send(CacheInvalidationEvent.Type type, String id, Integer version) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new Message(nodeId, sequence.incrementAndGet(), type, id, version));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize the cache invalidation for " + type + " " + id, e);
+        }
+
+        jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) ps -> {
+            ps.setString(1, CHANNEL);
+            ps.setString(2, payload);
+            return ps.execute();
+        });
+        publishedCounter.increment();
+    }
+
+    /**
+     * Apply a message received from the notification channel.
+     *
+     * @param payload Message payload.
+     */
+    private void receive(String payload) {
+        Message message;
+        try {
+            message = objectMapper.readValue(payload, Message.class);
+        } catch (JsonProcessingException e) {
+            log.error("Unreadable cache invalidation message: " + payload, e);
+            flushAll("an invalidation message could not be read");
+            return;
+        }
+
+        if (nodeId.equals(message.node())) {
+            return;
+        }
+        receivedCounter.increment();
+        applicationEventPublisher.publishEvent(new CacheInvalidationEvent(message.type(), message.id(), message.version()));
+
+        if (track(message.node(), message.sequence(), System.currentTimeMillis())) {
+            flushAll("invalidation messages from another instance are missing");
+        }
+    }
+
+    /**
+     * Record the sequence number of a received message.
+     *
+     * @param node     ID of the sending instance.
+     * @param sequence Sequence number of the message.
+     * @param now      Current time in milliseconds.
+     * @return `true` if a skipped message is overdue, or too many messages were skipped at once,
+     * and all local caches must be flushed.
+     */
+    private synchronized boolean track(String node, long sequence, long now) {
+        NodeSequence nodeSequence = nodeSequences.computeIfAbsent(node, ignored -> new NodeSequence(sequence));
+        nodeSequence.lastSeen = now;
+
+        if (sequence - nodeSequence.highest > MAX_SKIPPED) {
+            nodeSequence.highest = sequence;
+            nodeSequences.values().forEach(other -> other.skipped.clear());
+            return true;
+        }
+        if (sequence > nodeSequence.highest) {
+            for (long skipped = nodeSequence.highest + 1; skipped < sequence; skipped++) {
+                nodeSequence.skipped.put(skipped, now);
+            }
+            nodeSequence.highest = sequence;
+        } else {
+            nodeSequence.skipped.remove(sequence);
+        }
+        return expireGaps(now);
+    }
+
+    /**
+     * Check for skipped sequence numbers that have not arrived within the gap timeout.
+     * If there are any, all skipped numbers are forgotten, since the caller flushes all local caches.
+     *
+     * @param now Current time in milliseconds.
+     * @return `true` if a skipped message is overdue.
+     */
+    private synchronized boolean expireGaps(long now) {
+        nodeSequences.values().removeIf(nodeSequence -> nodeSequence.skipped.isEmpty()
+                && now - nodeSequence.lastSeen > NODE_IDLE_MILLIS);
+
+        boolean overdue = nodeSequences.values()
+                .stream()
+                .flatMap(nodeSequence -> nodeSequence.skipped.values().stream())
+                .anyMatch(skippedAt -> now - skippedAt >= gapTimeoutMillis);
+        if (overdue) {
+            nodeSequences.values().forEach(nodeSequence -> nodeSequence.skipped.clear());
+        }
+        return overdue;
+    }
+
+    /**
+     * Forget all sequence numbers, e.g. after messages may have been missed while the connection was down.
+     */
+    private synchronized void resetSequences() {
+        nodeSequences.clear();
+    }
+
+    /**
+     * Flush all local caches.
+     *
+     * @param reason Reason for the log.
+     */
+    private void flushAll(String reason) {
+        log.warn("Flushing all local caches because " + reason);
+        flushCounter.increment();
+        applicationEventPublisher.publishEvent(CacheInvalidationEvent.flushAll());
+    }
+
+    /**
+     * Invalidation message sent over the notification channel.
+     *
+     * @param node     ID of the sending instance.
+     * @param sequence Sequence number of the message within the sending instance, starting from 1.
+     * @param type     Type of the changed entity.
+     * @param id       ID of the changed entity, or `null`.
+     * @param version  Version of the entity after the change, or `null`.
+     */
+    private record Message(String node, long sequence, CacheInvalidationEvent.Type type, String id, Integer version) {
+    }
+
+    /**
+     * Sequence numbers received from one instance.
+     */
+    private static class NodeSequence {
+
+        private final Map<Long, Long> skipped = new HashMap<>();
+
+        private long highest;
+
+        private long lastSeen;
+
+        private NodeSequence(long highest) {
+            this.highest = highest;
+        }
+    }
+}
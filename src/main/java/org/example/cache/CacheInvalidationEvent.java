@@ -0,0 +1,50 @@
+package org.example.cache;
+
+/**
+ * Invalidation of locally cached data, received from another application instance.
+ * Local caches listen to this event and drop the affected entries.
+ *
+ * @param type    Type of the changed entity.
+ * @param id      ID of the changed entity (username for users, user ID for token versions),
+ *                or `null` if any entity of the type may have changed.
+ * @param version Version of the entity after the change (the token version for users and token versions),
+ *                or `null` if the entity has no version or was deleted.
+ */
+public record CacheInvalidationEvent(Type type, String id, Integer version) {
+
+    /**
+     * Create an event that drops all locally cached data, used when invalidations may have been missed.
+     *
+     * @return Full flush event.
+     */
+    public static CacheInvalidationEvent flushAll() {
+        return new CacheInvalidationEvent(Type.ALL, null, null);
+    }
+
+    /**
+     * Check whether the event invalidates the client catalog.
+     *
+     * @return `true` for catalog entities and full flushes.
+     */
+    public boolean affectsCatalog() {
+        return switch (type) {
+            case TARIFF, PLAN, PROMOTION, PROMOTION_TARIFF, ALL -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Type of the changed entity.
+     */
+    public enum Type {
+        TARIFF,
+        PLAN,
+        PROMOTION,
+        PROMOTION_TARIFF,
+        ROLE,
+        STATUS,
+        USER,
+        TOKEN_VERSION,
+        ALL
+    }
+}
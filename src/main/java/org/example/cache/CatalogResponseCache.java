@@ -0,0 +1,245 @@
+package org.example.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of serialized client catalog responses.
+ * Catalog pages are byte-identical between catalog changes, so each page is serialized to JSON once,
+ * optionally gzipped once, and the bytes are written directly to every following response.
+ * Entries are keyed by endpoint, page, size, sort, locale and catalog version, and the cache is bounded
+ * by the total size of the stored bytes. The whole cache is dropped when the catalog version changes.
+ * Pages are loaded from the primary, since a page read from a lagging replica would be stored under the new version.
+ * The ETag of a page is derived from its JSON bytes, so every instance, before and after a restart, issues
+ * the same ETag for the same content. The gzipped body is a different representation and gets its own ETag.
+ * The ETags are also kept in a separate small cache under the same key, which outlives the evicted bytes,
+ * so a conditional request for a page whose ETag is known is answered with `304 Not Modified`
+ * without loading or serializing the page.
+ * Hit, miss and eviction metrics are published under the `catalogResponses` and `catalogETags` cache names.
+ */
+@Component
+public class CatalogResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final int ETAG_BYTES = 16;
+
+    private final Cache<Key, CachedResponse> cache;
+
+    private final Cache<Key, ETags> eTags;
+
+    private final ObjectMapper objectMapper;
+
+    private final CatalogVersion catalogVersion;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean gzipEnabled;
+
+    private final int gzipMinBytes;
+
+    public CatalogResponseCache(ObjectMapper objectMapper,
+                                CatalogVersion catalogVersion,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${catalog.response-cache.max-bytes:67108864}") long maxBytes,
+                                @Value("${catalog.response-cache.max-etags:100000}") long maxETags,
+                                @Value("${catalog.response-cache.gzip:true}") boolean gzipEnabled,
+                                @Value("${catalog.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.catalogVersion = catalogVersion;
+
+        // A new transaction on the primary: the page is stored under the version read before loading,
+        // so it must not contain uncommitted or replica-lagged content.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(false);
+
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, CachedResponse response) -> response.size())
+                .recordStats()
+                .build();
+
+        this.eTags = Caffeine.newBuilder()
+                .maximumSize(maxETags)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalogResponses");
+        CaffeineCacheMetrics.monitor(meterRegistry, eTags, "catalogETags");
+        catalogVersion.onChange(() -> {
+            cache.invalidateAll();
+            eTags.invalidateAll();
+        });
+    }
+
+    /**
+     * Build the response with the serialized page, gzipped if the client accepts it and a gzipped copy is stored.
+     * If the ETag of the page is known and the client already has the representation, an empty
+     * `304 Not Modified` response is built before the page is loaded. Otherwise the page is taken from the cache,
+     * or loaded from the primary and serialized, and the response is built from it.
+     * The catalog version is read once, before loading, so a page loaded during a catalog change is stored
+     * under the old version and is never returned for the new one.
+     * The response must be revalidated by the client with its ETag before reuse.
+     *
+     * @param endpoint   Endpoint name.
+     * @param pageable   Requested page.
+     * @param loader     Function that loads the page.
+     * @param webRequest Current request.
+     * @return The response with the serialized page as its body, or the `304 Not Modified` response.
+     */
+    public ResponseEntity<byte[]> get(String endpoint, Pageable pageable, Supplier<?> loader, WebRequest webRequest) {
+        Key key = new Key(endpoint,
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getSort().toString(),
+                LocaleContextHolder.getLocale().toLanguageTag(),
+                catalogVersion.get());
+        boolean gzipAccepted = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        ETags knownETags = eTags.getIfPresent(key);
+        if (knownETags != null && webRequest.checkNotModified(knownETags.select(gzipAccepted))) {
+            return notModified(knownETags.select(gzipAccepted));
+        }
+
+        CachedResponse response = cache.get(key, ignored -> serialize(transactionTemplate.execute(status -> loader.get())));
+        String eTag = response.eTags().select(gzipAccepted);
+
+        if (knownETags == null) {
+            eTags.put(key, response.eTags());
+            if (webRequest.checkNotModified(eTag)) {
+                return notModified(eTag);
+            }
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzipAccepted && response.gzip() != null) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+
+    private ResponseEntity<byte[]> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    private CachedResponse serialize(Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize the catalog response", e);
+        }
+
+        byte[] gzip = gzipEnabled && json.length >= gzipMinBytes ? gzip(json) : null;
+        String eTag = eTag(json);
+
+        return new CachedResponse(json, gzip, new ETags(eTag, gzip != null ? eTag + "-" + GZIP : null));
+    }
+
+    private String eTag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(json);
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, ETAG_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported", e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cache key of a catalog page.
+     */
+    private record Key(String endpoint, int page, int size, String sort, String locale, long version) {
+    }
+
+    /**
+     * Serialized catalog page.
+     *
+     * @param json  JSON bytes.
+     * @param gzip  Gzipped JSON bytes, or `null` if the page is not stored gzipped.
+     * @param eTags ETags of the stored representations.
+     */
+    private record CachedResponse(byte[] json, byte[] gzip, ETags eTags) {
+
+        private int size() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+
+    /**
+     * ETags of a catalog page, without quotes.
+     *
+     * @param json Strong ETag of the JSON bytes.
+     * @param gzip ETag of the gzipped bytes, or `null` if the page is not stored gzipped.
+     */
+    private record ETags(String json, String gzip) {
+
+        private String select(boolean gzipAccepted) {
+            return gzipAccepted && gzip != null ? gzip : json;
+        }
+    }
+}
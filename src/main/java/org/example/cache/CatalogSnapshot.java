@@ -0,0 +1,248 @@
+package org.example.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.responsedto.PlanResponseDTO;
+import org.example.dto.responsedto.PromotionResponseDTO;
+import org.example.dto.responsedto.PromotionTariffResponseDTO;
+import org.example.dto.responsedto.TariffResponseDTO;
+import org.example.mapper.PromotionMapper;
+import org.example.repository.PlanRepository;
+import org.example.repository.PromotionRepository;
+import org.example.repository.PromotionTariffRepository;
+import org.example.repository.TariffRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of the client catalog: tariffs, plans, promotions and promotion tariffs.
+ * The catalog is small and read by almost every client request, so it is kept in immutable maps indexed
+ * by ID, by name and by tariff, and reads only read one volatile field, without database access or locking.
+ * The snapshot is built at startup and rebuilt once per catalog change, after the change is visible in the database:
+ * on the thread that committed the change, before its request returns, or on the thread that received
+ * the invalidation from another instance. The new snapshot is swapped in with one volatile write,
+ * so other requests see the previous snapshot until the rebuild is finished.
+ * A failed rebuild is retried by a periodic check (`catalog.snapshot.check-interval-ms`).
+ * The returned DTOs are shared and must not be modified.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshot {
+
+    private final TariffRepository tariffRepository;
+
+    private final PlanRepository planRepository;
+
+    private final PromotionRepository promotionRepository;
+
+    private final PromotionTariffRepository promotionTariffRepository;
+
+    private final PromotionMapper promotionMapper;
+
+    private final CatalogVersion catalogVersion;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer rebuildTimer;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Catalog catalog;
+
+    public CatalogSnapshot(TariffRepository tariffRepository,
+                           PlanRepository planRepository,
+                           PromotionRepository promotionRepository,
+                           PromotionTariffRepository promotionTariffRepository,
+                           PromotionMapper promotionMapper,
+                           CatalogVersion catalogVersion,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.tariffRepository = tariffRepository;
+        this.planRepository = planRepository;
+        this.promotionRepository = promotionRepository;
+        this.promotionTariffRepository = promotionTariffRepository;
+        this.promotionMapper = promotionMapper;
+        this.catalogVersion = catalogVersion;
+
+        // A new transaction on the primary: the snapshot must never contain uncommitted
+        // or replica-lagged content, because it is tagged with the current catalog version.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(false);
+
+        this.rebuildTimer = Timer.builder("catalog.snapshot.rebuild")
+                .description("Time to rebuild the in-memory catalog snapshot")
+                .register(meterRegistry);
+
+        catalogVersion.onCompletion(this::refresh);
+    }
+
+    /**
+     * Build the first snapshot before the application serves requests.
+     */
+    @PostConstruct
+    public void init() {
+        rebuildIfStale();
+    }
+
+    /**
+     * Rebuild the snapshot if it is older than the catalog version.
+     * A failure is logged and the previous snapshot is kept until the next attempt.
+     */
+    @Scheduled(fixedDelayString = "${catalog.snapshot.check-interval-ms:5000}")
+    public void refresh() {
+        try {
+            rebuildIfStale();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild the catalog snapshot, the previous snapshot is kept", e);
+        }
+    }
+
+    /**
+     * Get the catalog version the current snapshot was built from.
+     * The version is read before loading, so the snapshot is at least as new as the version.
+     *
+     * @return Catalog version of the snapshot.
+     */
+    public long version() {
+        return catalog.version();
+    }
+
+    public List<TariffResponseDTO> findTariffs() {
+        return catalog.tariffs();
+    }
+
+    public Optional<TariffResponseDTO> findTariff(int id) {
+        return Optional.ofNullable(catalog.tariffsById().get(id));
+    }
+
+    public boolean existsTariffName(String name) {
+        return catalog.tariffsByName().containsKey(name);
+    }
+
+    public Optional<PlanResponseDTO> findPlan(int id) {
+        return Optional.ofNullable(catalog.plansById().get(id));
+    }
+
+    public boolean existsPlan(int id) {
+        return catalog.plansById().containsKey(id);
+    }
+
+    public boolean existsPlanName(String name) {
+        return catalog.plansByName().containsKey(name);
+    }
+
+    public List<PlanResponseDTO> findPlansByTariff(int tariffId) {
+        return catalog.plansByTariffId().getOrDefault(tariffId, List.of());
+    }
+
+    public Optional<PromotionResponseDTO> findPromotion(int id) {
+        return Optional.ofNullable(catalog.promotionsById().get(id));
+    }
+
+    public Optional<PromotionTariffResponseDTO> findPromotionTariff(int id) {
+        return Optional.ofNullable(catalog.promotionTariffsById().get(id));
+    }
+
+    public List<PromotionResponseDTO> findPromotionsByTariff(int tariffId) {
+        return catalog.promotionsByTariffId().getOrDefault(tariffId, List.of());
+    }
+
+    /**
+     * Load and publish a new snapshot if the current one was built from an older catalog version.
+     * Rebuilds are serialized, so the last published snapshot is always the newest.
+     */
+    private void rebuildIfStale() {
+        rebuildLock.lock();
+        try {
+            long version = catalogVersion.get();
+            Catalog current = catalog;
+            if (current == null || current.version() != version) {
+                catalog = rebuildTimer.record(() -> transactionTemplate.execute(status -> load(version)));
+                log.info("Catalog snapshot rebuilt for version " + version);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Load the catalog from the database and index it.
+     *
+     * @param version Catalog version read before loading.
+     * @return New snapshot.
+     */
+    private Catalog load(long version) {
+        List<TariffResponseDTO> tariffs = tariffRepository.findAllResponses(Pageable.unpaged())
+                .stream()
+                .sorted(Comparator.comparingInt(TariffResponseDTO::getId))
+                .toList();
+        List<PlanResponseDTO> plans = planRepository.findAllResponses(Pageable.unpaged()).getContent();
+        List<PromotionResponseDTO> promotions = promotionRepository.findAll()
+                .stream()
+                .map(promotionMapper::toPromotionResponseDTO)
+                .toList();
+        List<PromotionTariffResponseDTO> promotionTariffs = promotionTariffRepository
+                .findAllResponses(Pageable.unpaged())
+                .getContent();
+
+        return new Catalog(version,
+                tariffs,
+                index(tariffs, TariffResponseDTO::getId),
+                index(tariffs, TariffResponseDTO::getName),
+                index(plans, PlanResponseDTO::getId),
+                index(plans, PlanResponseDTO::getName),
+                group(plans.stream()
+                        .filter(plan -> plan.getTariff() != null)
+                        .toList(), plan -> plan.getTariff().getId(), Function.identity()),
+                index(promotions, PromotionResponseDTO::getId),
+                index(promotionTariffs, PromotionTariffResponseDTO::getId),
+                group(promotionTariffs.stream()
+                                .filter(link -> link.getTariff() != null && link.getPromotion() != null)
+                                .toList(),
+                        link -> link.getTariff().getId(),
+                        PromotionTariffResponseDTO::getPromotion));
+    }
+
+    private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+        return Map.copyOf(values.stream()
+                .filter(value -> key.apply(value) != null)
+                .collect(Collectors.toMap(key, Function.identity(), (first, second) -> first)));
+    }
+
+    private static <T, V> Map<Integer, List<V>> group(List<T> values, Function<T, Integer> key, Function<T, V> value) {
+        return values.stream()
+                .collect(Collectors.collectingAndThen(
+                        Collectors.groupingBy(key, Collectors.mapping(value, Collectors.toUnmodifiableList())),
+                        Map::copyOf));
+    }
+
+    /**
+     * Immutable catalog indexes of one catalog version.
+     */
+    private record Catalog(long version,
+                           List<TariffResponseDTO> tariffs,
+                           Map<Integer, TariffResponseDTO> tariffsById,
+                           Map<String, TariffResponseDTO> tariffsByName,
+                           Map<Integer, PlanResponseDTO> plansById,
+                           Map<String, PlanResponseDTO> plansByName,
+                           Map<Integer, List<PlanResponseDTO>> plansByTariffId,
+                           Map<Integer, PromotionResponseDTO> promotionsById,
+                           Map<Integer, PromotionTariffResponseDTO> promotionTariffsById,
+                           Map<Integer, List<PromotionResponseDTO>> promotionsByTariffId) {
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.cache;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the client catalog: plans, tariffs, promotions and promotion tariffs.
+ * Every change of the catalog bumps the version, so content cached for an older version is never served.
+ * Change listeners run on every bump and drop cached content; completion listeners run once per change,
+ * when it is visible in the database, and rebuild content eagerly.
+ * The version is local to the application instance and is not exposed to clients.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    private final List<Runnable> completionListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Get the current version.
+     *
+     * @return Catalog version.
+     */
+    public long get() {
+        return version.get();
+    }
+
+    /**
+     * Register a listener that is run after every version change, e.g. to drop content cached for older versions.
+     *
+     * @param listener Change listener.
+     */
+    public void onChange(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Register a listener that is run once per change of the catalog, after the change is visible in the database:
+     * after the transaction that bumped the version completes, right after a bump outside a transaction,
+     * and after a change by another application instance.
+     *
+     * @param listener Completion listener.
+     */
+    public void onCompletion(Runnable listener) {
+        completionListeners.add(listener);
+    }
+
+    /**
+     * Bump the version after a change of the catalog.
+     * If a transaction is active, the version is bumped again after it completes,
+     * so that content read by a concurrent request before the commit is not tagged with the final version,
+     * and the completion listeners run only then.
+     */
+    public void bump() {
+        increment();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    increment();
+                    complete();
+                }
+            });
+        } else {
+            complete();
+        }
+    }
+
+    /**
+     * Bump the version after the catalog was changed by another application instance.
+     *
+     * @param event Invalidation received from another instance.
+     */
+    @EventListener
+    public void handleInvalidation(CacheInvalidationEvent event) {
+        if (event.affectsCatalog()) {
+            increment();
+            complete();
+        }
+    }
+
+    private void increment() {
+        version.incrementAndGet();
+        listeners.forEach(Runnable::run);
+    }
+
+    private void complete() {
+        completionListeners.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.model.Role;
+import org.example.model.Status;
+import org.example.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache of authenticated principals keyed by username.
+ * It holds detached snapshots of users (with role and status, without collections),
+ * so an authenticated request does not need to query the database to rebuild its principal.
+ * Entries live for a limited time and are evicted explicitly whenever the user is changed.
+ * Principals are always loaded from the primary, since a reload right after an eviction could otherwise
+ * read the state from before the change from a lagging replica and cache it for the whole entry lifetime.
+ * Hit, miss and eviction metrics are published under the `principals` cache name.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, User> cache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${user.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${user.cache.ttl-seconds:300}") long ttlSeconds) {
+        // A new read-write transaction is routed to the primary, whatever transaction the caller runs in.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(false);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Get the principal from the cache, or load it with the loader on the primary and cache its snapshot.
+     * Missing users are not cached.
+     *
+     * @param username The username of the principal.
+     * @param loader   A function that loads the user from the database.
+     * @return An `Optional<User>` containing the principal snapshot, or empty if not found.
+     */
+    public Optional<User> get(String username, Function<String, Optional<User>> loader) {
+        return Optional.ofNullable(cache.get(username, key -> transactionTemplate.execute(status -> loader.apply(key)
+                .map(PrincipalCache::snapshot)
+                .orElse(null))));
+    }
+
+    /**
+     * Evict the principals with the given usernames.
+     * The entries are evicted right away and, if a transaction is active, once more after it commits,
+     * so that a request running concurrently with the transaction cannot cache the old state.
+     *
+     * @param usernames Usernames to evict, `null` values are ignored.
+     */
+    public void evict(String... usernames) {
+        List<String> keys = Arrays.stream(usernames)
+                .filter(Objects::nonNull)
+                .toList();
+        cache.invalidateAll(keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(keys);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evict the principal changed by another application instance, or all principals on a full flush.
+     *
+     * @param event Invalidation received from another instance.
+     */
+    @EventListener
+    public void handleInvalidation(CacheInvalidationEvent event) {
+        if (event.type() == CacheInvalidationEvent.Type.ALL) {
+            cache.invalidateAll();
+        } else if (event.type() == CacheInvalidationEvent.Type.USER && event.id() != null) {
+            cache.invalidate(event.id());
+        }
+    }
+
+    /**
+     * Create a detached copy of the user that is safe to share between requests.
+     *
+     * @param user The user entity.
+     * @return The user snapshot.
+     */
+    private static User snapshot(User user) {
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .role(new Role(user.getRole().getId(), user.getRole().getName()))
+                .status(new Status(user.getStatus().getId(), user.getStatus().getName()))
+                .tokenVersion(user.getTokenVersion())
+                .build();
+    }
+}
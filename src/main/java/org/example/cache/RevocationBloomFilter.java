@@ -0,0 +1,171 @@
+package org.example.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Rotating, time-sliced Bloom filter of revoked token digests.
+ * Each slice holds the tokens that expire within its time window, and a slice is dropped
+ * as soon as its window has passed, so the filter never fills up with expired tokens.
+ * A negative answer is definite, so the revocation store only needs to be consulted on a possible positive.
+ * Bit positions are derived from the SHA-256 digest of the token, so no additional hashing is needed.
+ * A lookup checks every live slice, so the false positive rates of the slices add up. The slices are sized
+ * from the expected number of live revocations, assumed to be spread evenly over one token lifetime,
+ * so that the sum stays within the target false positive rate.
+ */
+@Slf4j
+@Component
+public class RevocationBloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final NavigableMap<Long, AtomicLongArray> slices = new ConcurrentSkipListMap<>();
+
+    private final int bitsPerSlice;
+
+    private final int hashFunctions;
+
+    private final long sliceMillis;
+
+    public RevocationBloomFilter(@Value("${jwt.blacklist.bloom.expected-revocations:100000}") long expectedRevocations,
+                                 @Value("${jwt.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${jwt.blacklist.bloom.slice-seconds:600}") long sliceSeconds,
+                                 @Value("${jwt.blacklist.bloom.max-token-lifetime-seconds:3600}") long maxTokenLifetimeSeconds) {
+        if (expectedRevocations < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1
+                || sliceSeconds < 1 || maxTokenLifetimeSeconds < 1) {
+            throw new IllegalArgumentException("Invalid revocation Bloom filter settings");
+        }
+
+        // Live tokens spread over the windows of one token lifetime, but a lookup also checks the current,
+        // partly passed slice, so each slice is sized for a full window and gets an even share of the rate.
+        long lifetimeSlices = (maxTokenLifetimeSeconds + sliceSeconds - 1) / sliceSeconds;
+        long liveSlices = lifetimeSlices + 1;
+        long insertionsPerSlice = Math.max(1, (expectedRevocations + lifetimeSlices - 1) / lifetimeSlices);
+        double sliceFalsePositiveRate = falsePositiveRate / liveSlices;
+
+        long bits = (long) Math.ceil(-insertionsPerSlice * Math.log(sliceFalsePositiveRate) / (LN_2 * LN_2));
+        if (bits > Integer.MAX_VALUE - Long.SIZE) {
+            throw new IllegalArgumentException("Revocation Bloom filter slice of " + bits + " bits is too large");
+        }
+        this.bitsPerSlice = (int) Math.max(bits, Long.SIZE);
+        this.hashFunctions = (int) Math.max(1, Math.round((double) bitsPerSlice / insertionsPerSlice * LN_2));
+        this.sliceMillis = TimeUnit.SECONDS.toMillis(sliceSeconds);
+
+        log.info("Revocation Bloom filter sized to " + bitsPerSlice + " bits and " + hashFunctions
+                + " hash functions per slice for " + expectedRevocations + " revocations over " + liveSlices
+                + " slices at a false positive rate of " + falsePositiveRate);
+    }
+
+    /**
+     * Add the token digest to the slice that covers its expiration time.
+     *
+     * @param digestBytes    Raw SHA-256 digest of the token.
+     * @param expirationTime Token expiration time in milliseconds.
+     */
+    public void put(byte[] digestBytes, long expirationTime) {
+        AtomicLongArray bits = slices.computeIfAbsent(sliceOf(expirationTime),
+                slice -> new AtomicLongArray((bitsPerSlice + Long.SIZE - 1) / Long.SIZE));
+
+        ByteBuffer buffer = ByteBuffer.wrap(digestBytes);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(Long.BYTES);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = bitIndex(hash1, hash2, i);
+            long mask = 1L << index;
+            int word = index >>> 6;
+
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Check if the token digest might have been added to the filter.
+     *
+     * @param digestBytes Raw SHA-256 digest of the token.
+     * @return false - if the token was definitely not added, true - if it might have been.
+     */
+    public boolean mightContain(byte[] digestBytes) {
+        if (slices.isEmpty()) {
+            return false;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(digestBytes);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(Long.BYTES);
+
+        for (AtomicLongArray bits : slices.tailMap(System.currentTimeMillis(), true).values()) {
+            if (containsAll(bits, hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drop all slices whose time window has passed.
+     */
+    public void rotate() {
+        slices.headMap(System.currentTimeMillis(), false).clear();
+    }
+
+    /**
+     * Check if all bits of the digest are set in the slice.
+     *
+     * @param bits  Slice bits.
+     * @param hash1 First hash of the digest.
+     * @param hash2 Second hash of the digest.
+     * @return true - if all bits are set, false - otherwise.
+     */
+    private boolean containsAll(AtomicLongArray bits, long hash1, long hash2) {
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = bitIndex(hash1, hash2, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compute the i-th bit index using double hashing.
+     *
+     * @param hash1 First hash of the digest.
+     * @param hash2 Second hash of the digest.
+     * @param i     Hash function number.
+     * @return Bit index in the slice.
+     */
+    private int bitIndex(long hash1, long hash2, int i) {
+        return (int) Math.floorMod(hash1 + i * hash2, (long) bitsPerSlice);
+    }
+
+    /**
+     * Get the slice that holds tokens with the given expiration time.
+     * The slice key is the end of its time window.
+     *
+     * @param expirationTime Token expiration time in milliseconds.
+     * @return Slice end time in milliseconds.
+     */
+    private long sliceOf(long expirationTime) {
+        return (expirationTime / sliceMillis + 1) * sliceMillis;
+    }
+
+    /**
+     * Get the number of live slices.
+     *
+     * @return Number of slices.
+     */
+    public int sliceCount() {
+        return slices.size();
+    }
+}
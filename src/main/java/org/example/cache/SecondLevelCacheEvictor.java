@@ -0,0 +1,86 @@
+package org.example.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.model.Plan;
+import org.example.model.Role;
+import org.example.model.Status;
+import org.example.model.Tariff;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Explicit eviction from the Hibernate second-level cache.
+ * Hibernate keeps the cache current for the changes it makes itself, but not for rows changed by the database,
+ * e.g. by `ON DELETE CASCADE`, or by another application instance. Such changes must be evicted by hand.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evict all cached entities of the class and all cached query results.
+     * If a transaction is active, the eviction is repeated after it completes,
+     * so that a concurrent read cannot cache the state from before the commit.
+     *
+     * @param entityClass Entity class whose rows were changed by the database.
+     */
+    public void evict(Class<?> entityClass) {
+        evictNow(entityClass);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(entityClass);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evict the entity changed by another application instance, or the whole cache on a full flush.
+     * It runs before the other listeners, so the `CatalogSnapshot` is not rebuilt from stale cached queries.
+     *
+     * @param event Invalidation received from another instance.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void handleInvalidation(CacheInvalidationEvent event) {
+        if (event.type() == CacheInvalidationEvent.Type.ALL) {
+            entityManagerFactory.getCache().evictAll();
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+            return;
+        }
+
+        Class<?> entityClass = switch (event.type()) {
+            case TARIFF -> Tariff.class;
+            case PLAN -> Plan.class;
+            case ROLE -> Role.class;
+            case STATUS -> Status.class;
+            default -> null;
+        };
+        if (entityClass == null) {
+            return;
+        }
+
+        if (event.id() != null) {
+            entityManagerFactory.getCache().evict(entityClass, Integer.valueOf(event.id()));
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        } else {
+            evictNow(entityClass);
+        }
+    }
+
+    private void evictNow(Class<?> entityClass) {
+        entityManagerFactory.getCache().evict(entityClass);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.model.User;
+import org.example.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory table of the current token version of each user.
+ * A token is accepted only if the version it carries equals the current version of its user,
+ * so bumping the version revokes all outstanding tokens of that user at once.
+ * Versions are loaded lazily from the `token_version` column on the primary and kept current by the user updates.
+ * Entries expire after a limited time, so a version changed by another instance is picked up
+ * even if its invalidation message never arrives.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final int UNKNOWN_USER = -1;
+
+    private final Cache<Integer, Integer> versions;
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TokenVersionRegistry(UserRepository userRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${jwt.token-version.maximum-size:100000}") long maximumSize,
+                                @Value("${jwt.token-version.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+
+        // A new read-write transaction is routed to the primary, so a reload never reads a lagging version.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(false);
+
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Check if the token version is the current version of the user.
+     *
+     * @param userId       User ID
+     * @param tokenVersion The token version from the JWT token.
+     * @return true - if the version is current, false - if it is outdated or the user does not exist.
+     */
+    public boolean isCurrent(int userId, int tokenVersion) {
+        return versions.get(userId, id -> transactionTemplate.execute(status -> userRepository.findTokenVersionById(id)
+                .orElse(UNKNOWN_USER))) == tokenVersion;
+    }
+
+    /**
+     * Increment the token version of the user, revoking all of their outstanding tokens.
+     * The new version takes effect right away; if the transaction rolls back, it is reloaded from the database.
+     *
+     * @param user The managed user entity, saved by the caller.
+     */
+    public void bump(User user) {
+        int userId = user.getId();
+        int tokenVersion = user.getTokenVersion() + 1;
+
+        user.setTokenVersion(tokenVersion);
+        versions.put(userId, tokenVersion);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        versions.put(userId, tokenVersion);
+                    } else {
+                        versions.invalidate(userId);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Forget the token version of the user, e.g. after the user is deleted.
+     *
+     * @param userId User ID
+     */
+    public void remove(int userId) {
+        versions.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Apply the token version changed by another application instance, or forget all versions on a full flush.
+     * A version carried by the event is applied right away, unless a newer version is already known,
+     * since messages of concurrent changes may arrive out of order. Without a version, e.g. after the user
+     * was deleted, the version is forgotten and reloaded from the database on the next check.
+     *
+     * @param event Invalidation received from another instance.
+     */
+    @EventListener
+    public void handleInvalidation(CacheInvalidationEvent event) {
+        if (event.type() == CacheInvalidationEvent.Type.ALL) {
+            versions.invalidateAll();
+        } else if (event.type() == CacheInvalidationEvent.Type.TOKEN_VERSION && event.id() != null) {
+            int userId = Integer.parseInt(event.id());
+            if (event.version() != null) {
+                versions.asMap().merge(userId, event.version(), Integer::max);
+            } else {
+                versions.invalidate(userId);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.security.VerifiedToken;
+import org.example.util.TokenDigestUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of already verified JWT tokens.
+ * Entries are keyed by the token digest and live until the token's own expiration time,
+ * so a token reused for many requests is verified only once.
+ * Hit, miss and eviction metrics are published under the `verifiedTokens` cache name.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+    }
+
+    /**
+     * Get the verified token from the cache, or verify it with the loader and cache the result.
+     * If the loader throws an exception, nothing is cached.
+     *
+     * @param token  JWT token.
+     * @param loader A function that parses and verifies the token.
+     * @return The verified token.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> loader) {
+        return cache.get(TokenDigestUtil.digest(token), digest -> loader.apply(token));
+    }
+
+    /**
+     * Remove the token from the cache.
+     *
+     * @param token JWT token.
+     */
+    public void invalidate(String token) {
+        cache.invalidate(TokenDigestUtil.digest(token));
+    }
+
+    /**
+     * Expiration policy that keeps every entry until the `exp` claim of its token.
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.getExpiration() == null) {
+                return 0;
+            }
+            long millisLeft = value.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millisLeft, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package org.example.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.cache.PrincipalCache;
 import org.example.repository.UserRepository;
+import org.example.security.BCryptStrengthCalibrator;
+import org.example.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,7 +18,11 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
 
 /**
  * Spring Security configuration class for user authentication.
@@ -26,19 +35,21 @@ public class ApplicationConfig {
 
     private final MessageSource messageSource;
 
+    private final PrincipalCache principalCache;
+
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByUsername(username)
+        return username -> principalCache.get(username, userRepository::findByUsername)
                 .orElseThrow(() -> new UsernameNotFoundException(messageSource.getMessage("user.error.not_found",
                         null,
                         LocaleContextHolder.getLocale())));
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -47,8 +58,34 @@ public class ApplicationConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * Password encoder that runs BCrypt on a dedicated executor instead of request threads.
+     * By default the executor has one thread per available processor.
+     * New hashes are created with BCrypt, whose strength is either configured or calibrated at startup
+     * to the target hashing time within the configured minimum and maximum strength. Hashes created with another algorithm or a lower strength are still accepted
+     * and are upgraded on the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${security.password.hashing.threads:0}") int threads,
+                                           @Value("${security.password.hashing.queue-capacity:100}") int queueCapacity,
+                                           @Value("${security.password.bcrypt.strength:0}") int strength,
+                                           @Value("${security.password.target-millis:250}") long targetMillis,
+                                           @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${security.password.bcrypt.max-strength:14}") int maxStrength) {
+        int bcryptStrength = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(targetMillis, minStrength, maxStrength);
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of(
+                "bcrypt", new BCryptPasswordEncoder(bcryptStrength),
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder,
+                messageSource,
+                meterRegistry,
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity);
     }
 }
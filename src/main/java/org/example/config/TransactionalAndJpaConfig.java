@@ -1,16 +1,33 @@
 package org.example.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.example.datasource.QueryMetricsListener;
+import org.example.datasource.ReadWriteRoutingDataSource;
+import org.example.datasource.ReplicaLagMonitor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 
 import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Configuration for transaction management and JPA.
@@ -20,10 +37,12 @@ import java.util.Properties;
 public class TransactionalAndJpaConfig {
     private final Environment env;
 
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
     @Bean
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory() {
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
         LocalContainerEntityManagerFactoryBean em = new LocalContainerEntityManagerFactoryBean();
-        em.setDataSource(dataSource());
+        em.setDataSource(dataSource);
         em.setPackagesToScan("org.example.model");
 
         HibernateJpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
@@ -33,15 +52,32 @@ public class TransactionalAndJpaConfig {
         return em;
     }
 
+    /**
+     * Pooled HikariCP data source.
+     * All `spring.datasource.hikari.*` properties are applied, including the pgjdbc driver properties
+     * under `spring.datasource.hikari.data-source-properties`. Pool metrics are published through Micrometer.
+     * If `spring.datasource.replica.url` is set, a second pool is created for the replica and read-only
+     * transactions are routed to it while its lag is within `spring.datasource.replica.max-lag-ms`.
+     * Every statement goes through `QueryMetricsListener`, which records its execution time and logs slow statements.
+     */
     @Bean
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(env.getProperty("spring.datasource.driver-class-name"));
-        dataSource.setUrl(env.getProperty("spring.datasource.url"));
-        dataSource.setUsername(env.getProperty("spring.datasource.username"));
-        dataSource.setPassword(env.getProperty("spring.datasource.password"));
+    public DataSource dataSource(MeterRegistry meterRegistry,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 QueryMetricsListener queryMetricsListener) {
+        return ProxyDataSourceBuilder.create(routingDataSource(meterRegistry, replicaLagMonitor))
+                .name("provider")
+                .listener(queryMetricsListener)
+                .build();
+    }
 
-        return dataSource;
+    /**
+     * Per-query execution counts and latencies from the Hibernate statistics, tagged with the query.
+     */
+    @Bean
+    public HibernateQueryMetrics hibernateQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryMetrics(entityManagerFactory.unwrap(SessionFactory.class),
+                "entityManagerFactory",
+                Tags.empty());
     }
 
     @Bean
@@ -51,12 +87,97 @@ public class TransactionalAndJpaConfig {
         return transactionManager;
     }
 
+    /**
+     * Close the connection pools on shutdown.
+     * The pools are wrapped in the routing and proxy data sources, which do not close them.
+     */
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    /**
+     * Build the primary pool, and the replica pool with read/write routing if a replica is configured.
+     *
+     * @param meterRegistry     Registry for the pool metrics.
+     * @param replicaLagMonitor Lag monitor of the replica.
+     * @return The primary pool, or the routing data source over both pools.
+     */
+    private DataSource routingDataSource(MeterRegistry meterRegistry, ReplicaLagMonitor replicaLagMonitor) {
+        HikariDataSource primary = buildDataSource("spring.datasource", meterRegistry);
+
+        if (!env.containsProperty("spring.datasource.replica.url")) {
+            return primary;
+        }
+
+        HikariDataSource replica = buildDataSource("spring.datasource.replica", meterRegistry);
+        replicaLagMonitor.monitor(replica);
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.DataSourceType.PRIMARY, primary,
+                ReadWriteRoutingDataSource.DataSourceType.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
     private Properties hibernateProperties() {
         Properties properties = new Properties();
         properties.put("hibernate.dialect", env.getProperty("spring.jpa.properties.hibernate.dialect"));
-        properties.put("hibernate.show_sql", env.getProperty("spring.jpa.show-sql"));
+        properties.put("hibernate.show_sql", env.getProperty("spring.jpa.show-sql", "false"));
         properties.put("hibernate.hbm2ddl.auto", env.getProperty("spring.jpa.hibernate.ddl-auto"));
+        properties.put("hibernate.jdbc.batch_size",
+                env.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "50"));
+        properties.put("hibernate.order_inserts",
+                env.getProperty("spring.jpa.properties.hibernate.order_inserts", "true"));
+        properties.put("hibernate.order_updates",
+                env.getProperty("spring.jpa.properties.hibernate.order_updates", "true"));
+        properties.put("hibernate.cache.use_second_level_cache",
+                env.getProperty("spring.jpa.properties.hibernate.cache.use_second_level_cache", "true"));
+        properties.put("hibernate.cache.use_query_cache",
+                env.getProperty("spring.jpa.properties.hibernate.cache.use_query_cache", "true"));
+        properties.put("hibernate.cache.region.factory_class",
+                env.getProperty("spring.jpa.properties.hibernate.cache.region.factory_class", "jcache"));
+        properties.put("hibernate.javax.cache.provider",
+                env.getProperty("spring.jpa.properties.hibernate.javax.cache.provider",
+                        "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"));
+        properties.put("hibernate.javax.cache.missing_cache_strategy",
+                env.getProperty("spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy", "create-warn"));
+        properties.put("hibernate.generate_statistics",
+                env.getProperty("spring.jpa.properties.hibernate.generate_statistics", "true"));
 
         return properties;
     }
+
+    /**
+     * Build a HikariCP pool from the connection properties under the prefix.
+     * The replica pool inherits the primary pool settings and can override them under `<prefix>.hikari`.
+     *
+     * @param prefix        Property prefix of the connection settings.
+     * @param meterRegistry Registry for the pool metrics.
+     * @return The pooled data source, closed on shutdown.
+     */
+    private HikariDataSource buildDataSource(String prefix, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        Binder binder = Binder.get(env);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(config));
+
+        if (!"spring.datasource".equals(prefix)) {
+            String poolName = config.getPoolName();
+            config.setPoolName(poolName != null ? poolName + "-replica" : "HikariCP-replica");
+            binder.bind(prefix + ".hikari", Bindable.ofInstance(config));
+        }
+
+        config.setDriverClassName(env.getProperty("spring.datasource.driver-class-name"));
+        config.setJdbcUrl(env.getProperty(prefix + ".url"));
+        config.setUsername(env.getProperty(prefix + ".username"));
+        config.setPassword(env.getProperty(prefix + ".password"));
+        config.setMetricRegistry(meterRegistry);
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        pools.add(dataSource);
+        return dataSource;
+    }
 }
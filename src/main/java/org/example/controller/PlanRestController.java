@@ -4,21 +4,28 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.annotation.ExecutionTime;
+import org.example.cache.CatalogResponseCache;
 import org.example.dto.requestdto.CreatePlanRequestDTO;
 import org.example.dto.requestdto.UpdatePlanRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
 import org.example.dto.responsedto.PlanResponseDTO;
 import org.example.service.PlanService;
+import org.example.util.ProviderConstantUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST controller for managing plans.
@@ -33,6 +40,8 @@ import org.springframework.web.bind.annotation.*;
 public class PlanRestController {
     private final PlanService planService;
 
+    private final CatalogResponseCache catalogResponseCache;
+
     @ExecutionTime
     @GetMapping("/admin/plans")
     @Operation(summary = "Get all plans for Admin", description = "Retrieves a paginated list of all plans (for Admin)")
@@ -46,6 +55,21 @@ public class PlanRestController {
         return ResponseEntity.ok(plans);
     }
 
+    @ExecutionTime
+    @GetMapping("/admin/plans/cursor")
+    @Validated
+    @Operation(summary = "Get plans by cursor for Admin", description = "Retrieves a slice of plans sorted by name and ID, starting after the cursor, without a total count (for Admin)")
+    @Parameter(name = "cursor", description = "Cursor returned with the previous slice (optional, omit for the first slice)")
+    @Parameter(name = "size", description = "Slice size (optional, default: 5, max: " + ProviderConstantUtil.MAX_SLICE_SIZE + ")")
+    public ResponseEntity<CursorSliceResponseDTO<PlanResponseDTO>> getPlanSliceForAdmin(@RequestParam(required = false) String cursor,
+                                                                                        @Min(1) @Max(ProviderConstantUtil.MAX_SLICE_SIZE) @RequestParam(defaultValue = "5") int size) {
+        CursorSliceResponseDTO<PlanResponseDTO> plans = planService.getPlanSlice(cursor, size);
+
+        log.info("Plans slice for Admin successfully received");
+
+        return ResponseEntity.ok(plans);
+    }
+
     @ExecutionTime
     @GetMapping("/admin/plans/{id}")
     @Validated
@@ -98,11 +122,33 @@ public class PlanRestController {
     @GetMapping("/client/plans")
     @Operation(summary = "Get all plans for Client", description = "Retrieves a paginated list of all plans (for Client)")
     @Parameter(name = "pageable", description = "Pagination information (optional, default: page=0, size=5, sort=name,asc)")
-    public ResponseEntity<Page<PlanResponseDTO>> getAllPlansForClient(@PageableDefault(sort = "name", direction = Sort.Direction.ASC, value = 5)
-                                                                      Pageable pageable) {
-        Page<PlanResponseDTO> plans = planService.getAllPlans(pageable);
+    public ResponseEntity<byte[]> getAllPlansForClient(@PageableDefault(sort = "name", direction = Sort.Direction.ASC, value = 5)
+                                                       Pageable pageable,
+                                                       WebRequest webRequest) {
+        ResponseEntity<byte[]> response = catalogResponseCache.get("client/plans",
+                pageable,
+                () -> planService.getAllPlans(pageable),
+                webRequest);
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            log.info("Plans for Client not modified");
+        } else {
+            log.info("Plans for Client successfully received");
+        }
+
+        return response;
+    }
 
-        log.info("Plans for Client successfully received");
+    @ExecutionTime
+    @GetMapping("/client/plans/cursor")
+    @Validated
+    @Operation(summary = "Get plans by cursor for Client", description = "Retrieves a slice of plans sorted by name and ID, starting after the cursor, without a total count (for Client)")
+    @Parameter(name = "cursor", description = "Cursor returned with the previous slice (optional, omit for the first slice)")
+    @Parameter(name = "size", description = "Slice size (optional, default: 5, max: " + ProviderConstantUtil.MAX_SLICE_SIZE + ")")
+    public ResponseEntity<CursorSliceResponseDTO<PlanResponseDTO>> getPlanSliceForClient(@RequestParam(required = false) String cursor,
+                                                                                         @Min(1) @Max(ProviderConstantUtil.MAX_SLICE_SIZE) @RequestParam(defaultValue = "5") int size) {
+        CursorSliceResponseDTO<PlanResponseDTO> plans = planService.getPlanSlice(cursor, size);
+
+        log.info("Plans slice for Client successfully received");
 
         return ResponseEntity.ok(plans);
     }
@@ -4,21 +4,28 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.annotation.ExecutionTime;
+import org.example.cache.CatalogResponseCache;
 import org.example.dto.requestdto.CreatePromotionRequestDTO;
 import org.example.dto.requestdto.UpdatePromotionRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
 import org.example.dto.responsedto.PromotionResponseDTO;
 import org.example.service.PromotionService;
+import org.example.util.ProviderConstantUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST controller for managing promotions.
@@ -33,6 +40,8 @@ import org.springframework.web.bind.annotation.*;
 public class PromotionRestController {
     private final PromotionService promotionService;
 
+    private final CatalogResponseCache catalogResponseCache;
+
     @ExecutionTime
     @GetMapping("/admin/promotions")
     @Operation(summary = "Get all promotions for Admin", description = "Retrieves a paginated list of all promotions (for Admin)")
@@ -46,6 +55,21 @@ public class PromotionRestController {
         return ResponseEntity.ok(promotions);
     }
 
+    @ExecutionTime
+    @GetMapping("/admin/promotions/cursor")
+    @Validated
+    @Operation(summary = "Get promotions by cursor for Admin", description = "Retrieves a slice of promotions sorted by discount percentage and ID, starting after the cursor, without a total count (for Admin)")
+    @Parameter(name = "cursor", description = "Cursor returned with the previous slice (optional, omit for the first slice)")
+    @Parameter(name = "size", description = "Slice size (optional, default: 5, max: " + ProviderConstantUtil.MAX_SLICE_SIZE + ")")
+    public ResponseEntity<CursorSliceResponseDTO<PromotionResponseDTO>> getPromotionSliceForAdmin(@RequestParam(required = false) String cursor,
+                                                                                                  @Min(1) @Max(ProviderConstantUtil.MAX_SLICE_SIZE) @RequestParam(defaultValue = "5") int size) {
+        CursorSliceResponseDTO<PromotionResponseDTO> promotions = promotionService.getPromotionSlice(cursor, size);
+
+        log.info("Promotions slice for Admin successfully received");
+
+        return ResponseEntity.ok(promotions);
+    }
+
     @ExecutionTime
     @GetMapping("/admin/promotions/{id}")
     @Validated
@@ -98,11 +122,33 @@ public class PromotionRestController {
     @GetMapping("/client/promotions")
     @Operation(summary = "Get all promotions for Client", description = "Retrieves a paginated list of all promotions (for Client)")
     @Parameter(name = "pageable", description = "Pagination information (optional, default: page=0, size=5, sort=discountPercentage,asc)")
-    public ResponseEntity<Page<PromotionResponseDTO>> getAllPromotionsForClient(@PageableDefault(sort = "discountPercentage", direction = Sort.Direction.ASC, value = 5)
-                                                                                Pageable pageable) {
-        Page<PromotionResponseDTO> promotions = promotionService.getAllPromotions(pageable);
+    public ResponseEntity<byte[]> getAllPromotionsForClient(@PageableDefault(sort = "discountPercentage", direction = Sort.Direction.ASC, value = 5)
+                                                            Pageable pageable,
+                                                            WebRequest webRequest) {
+        ResponseEntity<byte[]> response = catalogResponseCache.get("client/promotions",
+                pageable,
+                () -> promotionService.getAllPromotions(pageable),
+                webRequest);
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            log.info("Promotions for Client not modified");
+        } else {
+            log.info("Promotions for Client successfully received");
+        }
+
+        return response;
+    }
 
-        log.info("Promotions for Client successfully received");
+    @ExecutionTime
+    @GetMapping("/client/promotions/cursor")
+    @Validated
+    @Operation(summary = "Get promotions by cursor for Client", description = "Retrieves a slice of promotions sorted by discount percentage and ID, starting after the cursor, without a total count (for Client)")
+    @Parameter(name = "cursor", description = "Cursor returned with the previous slice (optional, omit for the first slice)")
+    @Parameter(name = "size", description = "Slice size (optional, default: 5, max: " + ProviderConstantUtil.MAX_SLICE_SIZE + ")")
+    public ResponseEntity<CursorSliceResponseDTO<PromotionResponseDTO>> getPromotionSliceForClient(@RequestParam(required = false) String cursor,
+                                                                                                   @Min(1) @Max(ProviderConstantUtil.MAX_SLICE_SIZE) @RequestParam(defaultValue = "5") int size) {
+        CursorSliceResponseDTO<PromotionResponseDTO> promotions = promotionService.getPromotionSlice(cursor, size);
+
+        log.info("Promotions slice for Client successfully received");
 
         return ResponseEntity.ok(promotions);
     }
@@ -3,21 +3,28 @@ package org.example.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.annotation.ExecutionTime;
+import org.example.cache.CatalogResponseCache;
 import org.example.dto.requestdto.CreatePromotionTariffRequestDTO;
 import org.example.dto.requestdto.UpdatePromotionTariffRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
 import org.example.dto.responsedto.PromotionTariffResponseDTO;
 import org.example.service.PromotionTariffService;
+import org.example.util.ProviderConstantUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST controller for managing promotional tariffs.
@@ -33,6 +40,8 @@ public class PromotionTariffRestController {
 
     private final PromotionTariffService promotionTariffService;
 
+    private final CatalogResponseCache catalogResponseCache;
+
     @ExecutionTime
     @GetMapping("/admin/promotions-tariffs")
     @Operation(summary = "Get all promotion tariffs for Admin", description = "Retrieves a paginated list of all promotion tariffs (for Admin)")
@@ -46,6 +55,21 @@ public class PromotionTariffRestController {
         return ResponseEntity.ok(promotionsTariffs);
     }
 
+    @ExecutionTime
+    @GetMapping("/admin/promotions-tariffs/cursor")
+    @Validated
+    @Operation(summary = "Get promotion tariffs by cursor for Admin", description = "Retrieves a slice of promotion tariffs sorted by ID, starting after the cursor, without a total count (for Admin)")
+    @Parameter(name = "cursor", description = "Cursor returned with the previous slice (optional, omit for the first slice)")
+    @Parameter(name = "size", description = "Slice size (optional, default: 5, max: " + ProviderConstantUtil.MAX_SLICE_SIZE + ")")
+    public ResponseEntity<CursorSliceResponseDTO<PromotionTariffResponseDTO>> getPromotionTariffSliceForAdmin(@RequestParam(required = false) String cursor,
+                                                                                                              @Min(1) @Max(ProviderConstantUtil.MAX_SLICE_SIZE) @RequestParam(defaultValue = "5") int size) {
+        CursorSliceResponseDTO<PromotionTariffResponseDTO> promotionsTariffs = promotionTariffService.getPromotionTariffSlice(cursor, size);
+
+        log.info("Promotional tariffs slice for Admin successfully received");
+
+        return ResponseEntity.ok(promotionsTariffs);
+    }
+
     @ExecutionTime
     @GetMapping("/admin/promotions-tariffs/{id}")
     @Validated
@@ -100,11 +124,33 @@ public class PromotionTariffRestController {
     @GetMapping("/client/promotions-tariffs")
     @Operation(summary = "Get all promotion tariffs for Client", description = "Retrieves a paginated list of all promotion tariffs (for Client)")
     @Parameter(name = "pageable", description = "Pagination information (optional, default: page=0, size=5, sort=discountPercentage,asc)")
-    public ResponseEntity<Page<PromotionTariffResponseDTO>> getAllPromotionsTariffsForClient(@PageableDefault(sort = "discountPercentage", direction = Sort.Direction.ASC, value = 5)
-                                                                                             Pageable pageable) {
-        Page<PromotionTariffResponseDTO> promotionsTariffs = promotionTariffService.getAllPromotionsTariffs(pageable);
+    public ResponseEntity<byte[]> getAllPromotionsTariffsForClient(@PageableDefault(sort = "discountPercentage", direction = Sort.Direction.ASC, value = 5)
+                                                                   Pageable pageable,
+                                                                   WebRequest webRequest) {
+        ResponseEntity<byte[]> response = catalogResponseCache.get("client/promotions-tariffs",
+                pageable,
+                () -> promotionTariffService.getAllPromotionsTariffs(pageable),
+                webRequest);
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            log.info("Promotional tariff for Client not modified");
+        } else {
+            log.info("Promotional tariff for Client successfully received");
+        }
+
+        return response;
+    }
 
-        log.info("Promotional tariff for Client successfully received");
+    @ExecutionTime
+    @GetMapping("/client/promotions-tariffs/cursor")
+    @Validated
+    @Operation(summary = "Get promotion tariffs by cursor for Client", description = "Retrieves a slice of promotion tariffs sorted by ID, starting after the cursor, without a total count (for Client)")
+    @Parameter(name = "cursor", description = "Cursor returned with the previous slice (optional, omit for the first slice)")
+    @Parameter(name = "size", description = "Slice size (optional, default: 5, max: " + ProviderConstantUtil.MAX_SLICE_SIZE + ")")
+    public ResponseEntity<CursorSliceResponseDTO<PromotionTariffResponseDTO>> getPromotionTariffSliceForClient(@RequestParam(required = false) String cursor,
+                                                                                                               @Min(1) @Max(ProviderConstantUtil.MAX_SLICE_SIZE) @RequestParam(defaultValue = "5") int size) {
+        CursorSliceResponseDTO<PromotionTariffResponseDTO> promotionsTariffs = promotionTariffService.getPromotionTariffSlice(cursor, size);
+
+        log.info("Promotional tariffs slice for Client successfully received");
 
         return ResponseEntity.ok(promotionsTariffs);
     }
@@ -13,11 +13,15 @@ import org.example.annotation.customannotation.UniqueSubscription;
 import org.example.dto.requestdto.CreateSubscriptionRequestDTO;
 import org.example.dto.requestdto.UpdateSubscriptionRequestDTO;
 import org.example.dto.responsedto.SubscriptionResponseDTO;
+import org.example.export.ExportFormat;
+import org.example.export.ExportResponseStreamer;
 import org.example.service.SubscriptionService;
 import org.example.util.RecipientCurrentClientUtil;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.util.List;
 
@@ -34,6 +38,8 @@ import java.util.List;
 public class SubscriptionRestController {
     private final SubscriptionService subscriptionService;
 
+    private final ExportResponseStreamer exportResponseStreamer;
+
     @ExecutionTime
     @GetMapping("/admin/subscriptions")
     @Operation(summary = "Get all subscriptions for Admin", description = "Retrieves a list of all subscriptions (for Admin)")
@@ -45,6 +51,20 @@ public class SubscriptionRestController {
         return ResponseEntity.ok(subscriptions);
     }
 
+    @GetMapping(value = "/admin/subscriptions/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "Export all subscriptions for Admin", description = "Streams all subscriptions as newline-delimited JSON, one subscription per line, or as CSV (for Admin)")
+    @Parameter(name = "format", description = "Export format: NDJSON or CSV (optional, default: NDJSON)")
+    public ResponseEntity<ResponseBodyEmitter> exportSubscriptions(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        ResponseBodyEmitter body = exportResponseStreamer.stream(format.getMediaType(),
+                outputStream -> subscriptionService.exportSubscriptions(format, outputStream));
+
+        log.info("Subscriptions export started");
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+
     @ExecutionTime
     @GetMapping("/admin/subscriptions/{id}")
     @Validated
@@ -4,21 +4,33 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.annotation.ExecutionTime;
+import org.example.cache.CatalogResponseCache;
 import org.example.dto.requestdto.CreateTariffRequestDTO;
 import org.example.dto.requestdto.UpdateTariffRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
+import org.example.dto.responsedto.EffectivePriceResponseDTO;
 import org.example.dto.responsedto.TariffResponseDTO;
 import org.example.service.TariffService;
+import org.example.util.ProviderConstantUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * REST controller for managing tariffs.
@@ -34,6 +46,8 @@ public class TariffRestController {
 
     private final TariffService tariffService;
 
+    private final CatalogResponseCache catalogResponseCache;
+
     @ExecutionTime
     @GetMapping("/admin/tariffs")
     @Validated
@@ -48,6 +62,21 @@ public class TariffRestController {
         return ResponseEntity.ok(tariffs);
     }
 
+    @ExecutionTime
+    @GetMapping("/admin/tariffs/cursor")
+    @Validated
+    @Operation(summary = "Get tariffs by cursor for Admin", description = "Retrieves a slice of tariffs sorted by name and ID, starting after the cursor, without a total count (for Admin)")
+    @Parameter(name = "cursor", description = "Cursor returned with the previous slice (optional, omit for the first slice)")
+    @Parameter(name = "size", description = "Slice size (optional, default: 5, max: " + ProviderConstantUtil.MAX_SLICE_SIZE + ")")
+    public ResponseEntity<CursorSliceResponseDTO<TariffResponseDTO>> getTariffSliceForAdmin(@RequestParam(required = false) String cursor,
+                                                                                            @Min(1) @Max(ProviderConstantUtil.MAX_SLICE_SIZE) @RequestParam(defaultValue = "5") int size) {
+        CursorSliceResponseDTO<TariffResponseDTO> tariffs = tariffService.getTariffSlice(cursor, size);
+
+        log.info("Tariffs slice for Admin successfully received");
+
+        return ResponseEntity.ok(tariffs);
+    }
+
     @ExecutionTime
     @GetMapping("/admin/tariffs/{id}")
     @Validated
@@ -101,15 +130,51 @@ public class TariffRestController {
     @Validated
     @Operation(summary = "Get all tariffs for Client (paginated)", description = "Retrieves a paginated list of all tariffs (for Client)")
     @Parameter(name = "pageable", description = "Pagination information (optional, default: page=0, size=5, sort=name,asc)")
-    public ResponseEntity<Page<TariffResponseDTO>> getAllTariffsForClient(@PageableDefault(sort = "name", direction = Sort.Direction.ASC, value = 5)
-                                                                          Pageable pageable) {
-        Page<TariffResponseDTO> tariffs = tariffService.getAllTariffs(pageable);
+    public ResponseEntity<byte[]> getAllTariffsForClient(@PageableDefault(sort = "name", direction = Sort.Direction.ASC, value = 5)
+                                                         Pageable pageable,
+                                                         WebRequest webRequest) {
+        ResponseEntity<byte[]> response = catalogResponseCache.get("client/tariffs",
+                pageable,
+                () -> tariffService.getAllTariffs(pageable),
+                webRequest);
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            log.info("Tariffs for Client not modified");
+        } else {
+            log.info("Tariffs for Client successfully received");
+        }
+
+        return response;
+    }
 
-        log.info("Tariffs for Client successfully received");
+    @ExecutionTime
+    @GetMapping("/client/tariffs/cursor")
+    @Validated
+    @Operation(summary = "Get tariffs by cursor for Client", description = "Retrieves a slice of tariffs sorted by name and ID, starting after the cursor, without a total count (for Client)")
+    @Parameter(name = "cursor", description = "Cursor returned with the previous slice (optional, omit for the first slice)")
+    @Parameter(name = "size", description = "Slice size (optional, default: 5, max: " + ProviderConstantUtil.MAX_SLICE_SIZE + ")")
+    public ResponseEntity<CursorSliceResponseDTO<TariffResponseDTO>> getTariffSliceForClient(@RequestParam(required = false) String cursor,
+                                                                                             @Min(1) @Max(ProviderConstantUtil.MAX_SLICE_SIZE) @RequestParam(defaultValue = "5") int size) {
+        CursorSliceResponseDTO<TariffResponseDTO> tariffs = tariffService.getTariffSlice(cursor, size);
+
+        log.info("Tariffs slice for Client successfully received");
 
         return ResponseEntity.ok(tariffs);
     }
 
+    @ExecutionTime
+    @GetMapping("/client/tariffs/effective-prices")
+    @Validated
+    @Operation(summary = "Get effective tariff prices for Client", description = "Retrieves the price of every tariff discounted by its best active promotion on the date (for Client)")
+    @Parameter(name = "date", description = "Date the prices apply to, ISO format (optional, default: today)")
+    public ResponseEntity<List<EffectivePriceResponseDTO>> getEffectivePricesForClient(@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                                       @RequestParam(required = false) LocalDate date) {
+        List<EffectivePriceResponseDTO> prices = tariffService.getEffectivePrices(date != null ? date : LocalDate.now());
+
+        log.info("Effective tariff prices for Client successfully received");
+
+        return ResponseEntity.ok(prices);
+    }
+
     @ExecutionTime
     @GetMapping("/client/tariffs/{id}")
     @Validated
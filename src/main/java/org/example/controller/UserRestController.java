@@ -13,16 +13,20 @@ import org.example.dto.requestdto.PasswordChangeRequestDTO;
 import org.example.dto.requestdto.ProfileUpdateRequestDTO;
 import org.example.dto.requestdto.UpdateUserRequestDTO;
 import org.example.dto.responsedto.UserResponseDTO;
+import org.example.export.ExportFormat;
+import org.example.export.ExportResponseStreamer;
 import org.example.exception.ProviderAccessDeniedException;
 import org.example.mapper.UserMapper;
 import org.example.service.UserService;
 import org.example.util.RecipientCurrentClientUtil;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.util.List;
 
@@ -47,6 +51,8 @@ public class UserRestController {
 
     private final MessageSource messageSource;
 
+    private final ExportResponseStreamer exportResponseStreamer;
+
     @ExecutionTime
     @GetMapping("/admin/users")
     @Operation(summary = "Get all users for Admin", description = "Retrieves a list of all users (for Admin)")
@@ -58,6 +64,20 @@ public class UserRestController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping(value = "/admin/users/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "Export all users for Admin", description = "Streams all users as newline-delimited JSON, one user per line, or as CSV (for Admin)")
+    @Parameter(name = "format", description = "Export format: NDJSON or CSV (optional, default: NDJSON)")
+    public ResponseEntity<ResponseBodyEmitter> exportUsers(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        ResponseBodyEmitter body = exportResponseStreamer.stream(format.getMediaType(),
+                outputStream -> userService.exportUsers(format, outputStream));
+
+        log.info("Users export started");
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+
     @ExecutionTime
     @GetMapping("/admin/users/{id}")
     @Validated
@@ -0,0 +1,126 @@
+package org.example.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC execution listener that replaces `show_sql`.
+ * The execution time of every statement is recorded in the `datasource.query` timer, tagged with the statement type
+ * (select, insert, update, delete, other) and the outcome.
+ * Statements slower than `datasource.slow-query.threshold-ms` are logged with their duration and bind parameter count.
+ * The log is written by a background thread with a bounded queue, so logging never slows down the query itself;
+ * if the queue is full, the entry is dropped and counted in `datasource.query.slow.dropped`.
+ */
+@Slf4j
+@Component
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    private final Map<QueryType, Timer> successTimers = new EnumMap<>(QueryType.class);
+
+    private final Map<QueryType, Timer> failureTimers = new EnumMap<>(QueryType.class);
+
+    private final Counter slowCounter;
+
+    private final Counter droppedCounter;
+
+    private final long slowThresholdMillis;
+
+    private final ThreadPoolExecutor logExecutor;
+
+    public QueryMetricsListener(MeterRegistry meterRegistry,
+                                @Value("${datasource.slow-query.threshold-ms:500}") long slowThresholdMillis,
+                                @Value("${datasource.slow-query.queue-capacity:1000}") int queueCapacity) {
+        this.slowThresholdMillis = slowThresholdMillis;
+
+        for (QueryType type : QueryType.values()) {
+            successTimers.put(type, buildTimer(meterRegistry, type, "success"));
+            failureTimers.put(type, buildTimer(meterRegistry, type, "error"));
+        }
+        this.slowCounter = Counter.builder("datasource.query.slow")
+                .description("Number of statements slower than the slow query threshold")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("datasource.query.slow.dropped")
+                .description("Number of slow statements not logged because the log queue was full")
+                .register(meterRegistry);
+
+        this.logExecutor = new ThreadPoolExecutor(1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-log");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> droppedCounter.increment());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+
+        String query = queryInfoList.get(0).getQuery();
+        QueryType type = QueryUtils.getQueryType(query);
+        long elapsedMillis = execInfo.getElapsedTime();
+
+        (execInfo.isSuccess() ? successTimers : failureTimers).get(type).record(elapsedMillis, TimeUnit.MILLISECONDS);
+
+        if (elapsedMillis >= slowThresholdMillis) {
+            slowCounter.increment();
+            int bindCount = countBindParameters(queryInfoList.get(0));
+            int batchSize = execInfo.isBatch() ? execInfo.getBatchSize() : 1;
+            logExecutor.execute(() -> log.warn("Slow query took " + elapsedMillis + " ms, "
+                    + bindCount + " bind parameters, batch size " + batchSize + ": " + query));
+        }
+    }
+
+    /**
+     * Stop the log thread when the application context is closed.
+     */
+    @PreDestroy
+    public void stop() {
+        logExecutor.shutdown();
+    }
+
+    /**
+     * Count the bind parameters of one execution of the statement.
+     *
+     * @param queryInfo Executed statement.
+     * @return Number of bind parameters.
+     */
+    private int countBindParameters(QueryInfo queryInfo) {
+        return queryInfo.getParametersList().isEmpty() ? 0 : queryInfo.getParametersList().get(0).size();
+    }
+
+    private Timer buildTimer(MeterRegistry meterRegistry, QueryType type, String outcome) {
+        return Timer.builder("datasource.query")
+                .description("JDBC statement execution time")
+                .tag("type", type.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Data source that routes read-only transactions to the replica and everything else to the primary.
+ * Reads fall back to the primary while the `ReplicaLagMonitor` reports the replica as lagging or unavailable.
+ * It must be wrapped in a `LazyConnectionDataSourceProxy`, so that the connection is obtained
+ * after the read-only flag of the transaction has been set.
+ */
+@RequiredArgsConstructor
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaUsable()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+
+    /**
+     * Target data sources of the routing data source.
+     */
+    public enum DataSourceType {
+        PRIMARY,
+        REPLICA
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Replica lag guard for the read/write routing data source.
+ * It periodically measures the replication lag of the replica and reports the replica as usable
+ * only while the lag is within the configured limit. If the lag cannot be measured, the replica is not used.
+ * On a server that is not a replica the lag is zero, so the same database can be used behind both pools.
+ */
+@Slf4j
+@Component
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY = "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() " +
+            "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END, 0)";
+
+    private final long maxLagMillis;
+
+    private volatile JdbcTemplate replicaJdbcTemplate;
+
+    private volatile boolean replicaUsable;
+
+    private volatile double lagMillis = -1;
+
+    public ReplicaLagMonitor(MeterRegistry meterRegistry,
+                             @Value("${spring.datasource.replica.max-lag-ms:1000}") long maxLagMillis) {
+        this.maxLagMillis = maxLagMillis;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("Replication lag of the read replica in milliseconds, -1 if unknown")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start monitoring the replica.
+     *
+     * @param replica Replica data source.
+     */
+    public void monitor(DataSource replica) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        checkLag();
+    }
+
+    /**
+     * Check if read-only transactions can be routed to the replica.
+     *
+     * @return true - if the replica is monitored and its lag is within the limit, false - otherwise.
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Measure the replication lag and update the replica state.
+     */
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        JdbcTemplate jdbcTemplate = replicaJdbcTemplate;
+        if (jdbcTemplate == null) {
+            return;
+        }
+
+        boolean usable;
+        try {
+            Double lag = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            lagMillis = lag != null ? lag : 0;
+            usable = lagMillis <= maxLagMillis;
+        } catch (RuntimeException e) {
+            log.error("Failed to measure replica lag", e);
+            lagMillis = -1;
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            log.warn(usable ? "Replica is usable again, lag: " + lagMillis + " ms"
+                    : "Replica is not usable, read-only transactions are routed to the primary");
+        }
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.dto.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EffectivePriceResponseDTO {
+    private int tariffId;
+    private String tariffName;
+    private BigDecimal monthlyCost;
+    private Integer promotionId;
+    private String promotionTitle;
+    private BigDecimal discountPercentage;
+    private BigDecimal effectivePrice;
+    private LocalDate validUntil;
+}
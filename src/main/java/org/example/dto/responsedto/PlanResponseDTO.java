@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Getter
@@ -18,4 +19,35 @@ public class PlanResponseDTO {
     private LocalDate startDate;
     private LocalDate endDate;
     private TariffResponseDTO tariff;
+
+    /**
+     * Flat constructor for JPQL constructor expressions, which cannot build the nested tariff themselves.
+     * The tariff ID and limits are boxed, because they are `null` for a plan without a tariff
+     * and the limits are also `null` for a tariff without limits.
+     */
+    public PlanResponseDTO(int id,
+                           String name,
+                           String description,
+                           LocalDate startDate,
+                           LocalDate endDate,
+                           Integer tariffId,
+                           String tariffName,
+                           String tariffDescription,
+                           BigDecimal tariffMonthlyCost,
+                           Double tariffDataLimit,
+                           Double tariffVoiceLimit) {
+        this(id,
+                name,
+                description,
+                startDate,
+                endDate,
+                tariffId == null
+                        ? null
+                        : new TariffResponseDTO(tariffId,
+                                tariffName,
+                                tariffDescription,
+                                tariffMonthlyCost,
+                                tariffDataLimit,
+                                tariffVoiceLimit));
+    }
 }
@@ -5,6 +5,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,4 +17,40 @@ public class PromotionTariffResponseDTO {
     private TariffResponseDTO tariff;
     private PromotionResponseDTO promotion;
 
+    /**
+     * Flat constructor for JPQL constructor expressions, which cannot build the nested tariff and promotion themselves.
+     * The IDs and limits are boxed, because they are `null` if the row has no tariff or promotion,
+     * and the limits are also `null` for a tariff without limits.
+     */
+    public PromotionTariffResponseDTO(int id,
+                                      Integer tariffId,
+                                      String tariffName,
+                                      String tariffDescription,
+                                      BigDecimal tariffMonthlyCost,
+                                      Double tariffDataLimit,
+                                      Double tariffVoiceLimit,
+                                      Integer promotionId,
+                                      String promotionTitle,
+                                      String promotionDescription,
+                                      BigDecimal promotionDiscountPercentage,
+                                      LocalDate promotionStartDate,
+                                      LocalDate promotionEndDate) {
+        this(id,
+                tariffId == null
+                        ? null
+                        : new TariffResponseDTO(tariffId,
+                                tariffName,
+                                tariffDescription,
+                                tariffMonthlyCost,
+                                tariffDataLimit,
+                                tariffVoiceLimit),
+                promotionId == null
+                        ? null
+                        : new PromotionResponseDTO(promotionId,
+                                promotionTitle,
+                                promotionDescription,
+                                promotionDiscountPercentage,
+                                promotionStartDate,
+                                promotionEndDate));
+    }
 }
@@ -16,6 +16,6 @@ public class TariffResponseDTO {
     private String name;
     private String description;
     private BigDecimal monthlyCost;
-    private double dataLimit;
-    private double voiceLimit;
+    private Double dataLimit;
+    private Double voiceLimit;
 }
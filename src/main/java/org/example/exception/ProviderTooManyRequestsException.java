@@ -0,0 +1,7 @@
+package org.example.exception;
+
+public class ProviderTooManyRequestsException extends ProviderException {
+    public ProviderTooManyRequestsException(String message) {
+        super(message);
+    }
+}
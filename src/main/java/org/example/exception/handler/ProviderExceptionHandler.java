@@ -1,6 +1,7 @@
 package org.example.exception.handler;
 
 import jakarta.servlet.ServletException;
+import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.exception.*;
@@ -103,6 +104,22 @@ public class ProviderExceptionHandler {
                 LocaleContextHolder.getLocale()) + e.getMessage(), HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(ProviderTooManyRequestsException.class)
+    public ResponseEntity<String> handleProviderTooManyRequestsException(ProviderTooManyRequestsException e) {
+        log.error("ProviderTooManyRequestsException: " + e);
+        return new ResponseEntity<>(messageSource.getMessage("error.general.too_many_requests",
+                null,
+                LocaleContextHolder.getLocale()) + e.getMessage(), HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<String> handleValidationException(ValidationException e) {
+        if (e.getCause() instanceof ProviderTooManyRequestsException tooManyRequestsException) {
+            return handleProviderTooManyRequestsException(tooManyRequestsException);
+        }
+        return handleRuntimeException(e);
+    }
+
     @ExceptionHandler(ProviderMethodExecutionException.class)
     public ResponseEntity<String> handleProviderMethodExecutionException(ProviderMethodExecutionException e) {
         log.error("ProviderMethodExecutionException: ", e);
@@ -0,0 +1,13 @@
+package org.example.export;
+
+import java.util.function.Function;
+
+/**
+ * Column of a CSV export.
+ *
+ * @param header Column header.
+ * @param value  Function that extracts the column value from a row, `null` for an empty cell.
+ * @param <D>    Row type.
+ */
+public record CsvColumn<D>(String header, Function<D, ?> value) {
+}
@@ -0,0 +1,95 @@
+package org.example.export;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.util.ProviderConstantUtil;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writer of entity streams as CSV (RFC 4180) with a header row.
+ * Every entity is converted and written as soon as it is read from the database cursor, and the persistence context
+ * is cleared after every batch, so memory use does not depend on the number of exported rows.
+ * Must be called inside a transaction, because PostgreSQL only uses a cursor with a fetch size when autocommit is off.
+ */
+@Component
+public class CsvExporter {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Write every entity of the stream to the output stream as one CSV row.
+     *
+     * @param entities     Stream of entities read from a database cursor.
+     * @param mapper       Function that converts an entity into the row.
+     * @param columns      Columns of the export.
+     * @param outputStream Output stream. It is flushed but not closed.
+     * @param <E>          Entity type.
+     * @param <D>          Row type.
+     * @return Number of written rows, without the header.
+     */
+    public <E, D> long export(Stream<E> entities, Function<E, D> mapper, List<CsvColumn<D>> columns, OutputStream outputStream) {
+        long count = 0;
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writeRow(writer, columns.stream().map(CsvColumn::header).toList());
+
+            Iterator<E> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                D row = mapper.apply(iterator.next());
+                writeRow(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+
+                if (++count % ProviderConstantUtil.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Export failed after " + count + " rows", e);
+        }
+
+        return count;
+    }
+
+    private void writeRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escape(value.toString()));
+            }
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Quote the value if it contains a separator, a quote or a line break, doubling the quotes inside it.
+     *
+     * @param value Cell value.
+     * @return Escaped cell value.
+     */
+    private String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.exception.ProviderTooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Streamer of export responses.
+ * Exports run much longer than ordinary requests, so they are written through a `ResponseBodyEmitter`
+ * with its own timeout (`export.timeout-ms`) instead of raising the async timeout of the whole application.
+ * The export runs on a small dedicated executor (`export.threads`) with a bounded queue (`export.queue-capacity`).
+ * When the queue is full, the request fails fast with `ProviderTooManyRequestsException` (HTTP 429),
+ * so waiting exports cannot pile up and hold async request slots.
+ */
+@Slf4j
+@Component
+public class ExportResponseStreamer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final long timeoutMillis;
+
+    private final MessageSource messageSource;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Counter rejectedCounter;
+
+    public ExportResponseStreamer(MessageSource messageSource,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${export.timeout-ms:600000}") long timeoutMillis,
+                                  @Value("${export.threads:2}") int threads,
+                                  @Value("${export.queue-capacity:4}") int queueCapacity) {
+        this.messageSource = messageSource;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "export-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("export.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Number of exports waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("export.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of exports being written")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("export.rejected")
+                .description("Number of exports rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start writing the export to a new response emitter.
+     *
+     * @param mediaType Media type of the export.
+     * @param writer    Function that writes the export to the output stream.
+     * @return Emitter of the response body.
+     * @throws ProviderTooManyRequestsException If the export queue is full.
+     */
+    public ResponseBodyEmitter stream(MediaType mediaType, Consumer<OutputStream> writer) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        emitter.onTimeout(() -> log.warn("Export timed out after " + timeoutMillis + " ms"));
+
+        try {
+            executor.execute(() -> {
+                try (OutputStream outputStream = new BufferedOutputStream(new EmitterOutputStream(emitter, mediaType), BUFFER_SIZE)) {
+                    writer.accept(outputStream);
+                    outputStream.flush();
+                    emitter.complete();
+                } catch (IOException | RuntimeException e) {
+                    log.error("Export failed", e);
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Export queue is full, request rejected");
+            throw new ProviderTooManyRequestsException(messageSource.getMessage("export.error.too_many_requests",
+                    null,
+                    LocaleContextHolder.getLocale()));
+        }
+
+        return emitter;
+    }
+
+    /**
+     * Stop the export threads when the application context is closed.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Output stream that sends every written chunk to the emitter.
+     */
+    private static class EmitterOutputStream extends OutputStream {
+
+        private final ResponseBodyEmitter emitter;
+
+        private final MediaType mediaType;
+
+        private EmitterOutputStream(ResponseBodyEmitter emitter, MediaType mediaType) {
+            this.emitter = emitter;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                emitter.send(Arrays.copyOfRange(b, off, off + len), mediaType);
+            }
+        }
+    }
+}
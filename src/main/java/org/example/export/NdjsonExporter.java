@@ -0,0 +1,68 @@
+package org.example.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.example.util.ProviderConstantUtil;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writer of entity streams as newline-delimited JSON (NDJSON).
+ * Every entity is converted and written as soon as it is read from the database cursor, and the persistence context
+ * is cleared after every batch, so memory use does not depend on the number of exported rows.
+ * Must be called inside a transaction, because PostgreSQL only uses a cursor with a fetch size when autocommit is off.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonExporter {
+
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Write every entity of the stream to the output stream as one JSON line.
+     *
+     * @param entities     Stream of entities read from a database cursor.
+     * @param mapper       Function that converts an entity into the object to write.
+     * @param outputStream Output stream. It is flushed but not closed.
+     * @param <E>          Entity type.
+     * @param <D>          Written object type.
+     * @return Number of written lines.
+     */
+    public <E, D> long export(Stream<E> entities, Function<E, D> mapper, OutputStream outputStream) {
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             SequenceWriter writer = objectMapper.writer()
+                     .withRootValueSeparator("\n")
+                     .writeValues(generator)) {
+            Iterator<E> iterator = entities.iterator();
+
+            while (iterator.hasNext()) {
+                writer.write(mapper.apply(iterator.next()));
+
+                if (++count % ProviderConstantUtil.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Export failed after " + count + " rows", e);
+        }
+
+        return count;
+    }
+}
@@ -5,7 +5,12 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.example.cache.PrincipalCache;
+import org.example.cache.TokenVersionRegistry;
+import org.example.model.Role;
+import org.example.model.Status;
 import org.example.model.User;
+import org.example.security.VerifiedToken;
 import org.example.service.JwtBlacklistService;
 import org.example.service.JwtService;
 import org.example.service.UserService;
@@ -13,8 +18,6 @@ import org.example.util.ProviderConstantUtil;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -26,6 +29,9 @@ import java.io.IOException;
  * This filter applies to all API requests and is executed once per request.
  * It extracts the JWT token from the `Authorization` header, checks its validity and blacklist,
  * and then sets the Spring Security context based on the extracted username from the token.
+ * The token is parsed and verified once. For versioned tokens the principal is built from the token claims
+ * after checking the token version against the `TokenVersionRegistry`; for older tokens the user is taken
+ * from the `PrincipalCache`. Either way the steady-state path does not query the database.
  */
 @Component
 @RequiredArgsConstructor
@@ -35,10 +41,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtBlacklistService jwtBlacklistService;
 
-    private final UserDetailsService userDetailsService;
-
     private final UserService userService;
 
+    private final PrincipalCache principalCache;
+
+    private final TokenVersionRegistry tokenVersionRegistry;
+
     /**
      * Overridden method for filtering requests.
      *
@@ -66,21 +74,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        username = jwtService.extractUsername(jwt);
+        VerifiedToken verifiedToken = jwtService.verifyToken(jwt);
+
+        username = verifiedToken.getSubject();
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            User user;
+            if (verifiedToken.isVersioned()) {
+                if (!tokenVersionRegistry.isCurrent(verifiedToken.getUserId(), verifiedToken.getTokenVersion())) {
+                    // An outdated version is rare, so the current user is loaded to keep 403 for banned and inactive users.
+                    boolean disabled = principalCache.get(username, userService::findUserByUsername)
+                            .map(this::isDisabled)
+                            .orElse(false);
+                    response.setStatus(disabled ? HttpServletResponse.SC_FORBIDDEN : HttpServletResponse.SC_UNAUTHORIZED);
+                    return;
+                }
+                user = buildPrincipal(verifiedToken);
+            } else {
+                user = principalCache.get(username, userService::findUserByUsername).orElseThrow();
+            }
 
-            User user = userService.findUserByUsername(username).orElseThrow();
-            if (user.getStatus().getId() == ProviderConstantUtil.USER_STATUS_BANNED ||
-                    user.getStatus().getId() == ProviderConstantUtil.USER_STATUS_INACTIVE) {
+            if (isDisabled(user)) {
                 response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                 return;
             }
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
+            if (jwtService.isTokenValid(verifiedToken, user)) {
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(user,
                         null,
-                        userDetails.getAuthorities());
+                        user.getAuthorities());
                 authToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request)
                 );
@@ -89,4 +110,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private boolean isDisabled(User user) {
+        return user.getStatus().getId() == ProviderConstantUtil.USER_STATUS_BANNED ||
+                user.getStatus().getId() == ProviderConstantUtil.USER_STATUS_INACTIVE;
+    }
+
+    /**
+     * Build the principal from the claims of a versioned token.
+     * The claims can be trusted because the token version is current:
+     * any change of the user's role or status bumps the version.
+     *
+     * @param verifiedToken Verified versioned JWT token.
+     * @return The user principal.
+     */
+    private User buildPrincipal(VerifiedToken verifiedToken) {
+        return User.builder()
+                .id(verifiedToken.getUserId())
+                .username(verifiedToken.getSubject())
+                .role(new Role(verifiedToken.getRoleId(), verifiedToken.getRoleName()))
+                .status(new Status(verifiedToken.getStatusId(), verifiedToken.getStatusName()))
+                .tokenVersion(verifiedToken.getTokenVersion())
+                .build();
+    }
 }
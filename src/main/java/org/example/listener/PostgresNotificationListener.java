@@ -0,0 +1,165 @@
+package org.example.listener;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Listener for PostgreSQL `LISTEN/NOTIFY` notifications.
+ * It keeps one dedicated connection outside the connection pool and dispatches every notification
+ * to the handlers subscribed to its channel. Every time listening starts, on the first connection and after
+ * reconnecting, it runs the connect handlers, so subscribers can reload the state they may have missed
+ * before listening started or while the connection was down.
+ * Subscriptions must be made before the application is ready.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostgresNotificationListener {
+
+    private final Map<String, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+
+    private final List<Runnable> connectHandlers = new CopyOnWriteArrayList<>();
+
+    private final Environment env;
+
+    @Value("${notification.listener.poll-timeout-ms:500}")
+    private int pollTimeoutMillis;
+
+    @Value("${notification.listener.reconnect-delay-ms:5000}")
+    private long reconnectDelayMillis;
+
+    private volatile boolean running;
+
+    private Thread listenerThread;
+
+    /**
+     * Subscribe to notifications on the channel.
+     *
+     * @param channel Notification channel.
+     * @param handler Handler that receives the notification payload.
+     */
+    public void subscribe(String channel, Consumer<String> handler) {
+        handlers.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * Register a handler that is run every time listening starts, including the first connection.
+     * The handler runs after `LISTEN` has been issued, so nothing published after the state it loads is missed.
+     *
+     * @param handler Connect handler.
+     */
+    public void onConnect(Runnable handler) {
+        connectHandlers.add(handler);
+    }
+
+    /**
+     * Start listening once the application is ready.
+     *
+     * @param event Application launch event
+     */
+    @EventListener
+    public void handleApplicationReady(ApplicationReadyEvent event) {
+        if (handlers.isEmpty()) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "pg-notification-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    /**
+     * Stop listening and close the connection.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /**
+     * Listen for notifications until the listener is stopped, reconnecting after failures.
+     */
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(env.getProperty("spring.datasource.url"),
+                    env.getProperty("spring.datasource.username"),
+                    env.getProperty("spring.datasource.password"))) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : handlers.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                log.info("Listening for notifications on channels: " + handlers.keySet());
+
+                connectHandlers.forEach(this::runSafely);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.error("Notification listener connection failed, reconnecting in " + reconnectDelayMillis + " ms", e);
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pass the notification to all handlers of its channel.
+     *
+     * @param notification PostgreSQL notification.
+     */
+    private void dispatch(PGNotification notification) {
+        for (Consumer<String> handler : handlers.getOrDefault(notification.getName(), List.of())) {
+            runSafely(() -> handler.accept(notification.getParameter()));
+        }
+    }
+
+    /**
+     * Run the handler, logging instead of propagating its exceptions so that the listener keeps running.
+     *
+     * @param handler Handler to run.
+     */
+    private void runSafely(Runnable handler) {
+        try {
+            handler.run();
+        } catch (RuntimeException e) {
+            log.error("Notification handler failed", e);
+        }
+    }
+}
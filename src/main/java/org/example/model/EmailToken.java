@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
  * An entity for storing email verification tokens.
  */
 @Entity
-@Table(name = "email_token")
+@Table(name = "email_token",
+        indexes = {
+                @Index(name = "idx_email_token_user_id", columnList = "user_id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +26,8 @@ public class EmailToken {
 
     @Id
     @Column(name = "email_token_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_token_seq")
+    @SequenceGenerator(name = "email_token_seq", sequenceName = "email_token_email_token_id_seq", allocationSize = 50)
     private int id;
 
     @Column(name = "token")
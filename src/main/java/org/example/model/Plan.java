@@ -3,6 +3,8 @@ package org.example.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
@@ -10,9 +12,13 @@ import java.time.LocalDate;
  * An entity for representing plans.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "plan")
 @Table(name = "plan",
         indexes = {
-                @Index(name = "idx_plan_name", columnList = "plan_name")
+                @Index(name = "idx_plan_name", columnList = "plan_name"),
+                @Index(name = "idx_plan_name_id", columnList = "plan_name, plan_id"),
+                @Index(name = "idx_plan_tariff_id", columnList = "tariff_id")
         })
 @Getter
 @Setter
@@ -23,7 +29,8 @@ public class Plan {
 
     @Id
     @Column(name = "plan_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "plan_seq")
+    @SequenceGenerator(name = "plan_seq", sequenceName = "plan_plan_id_seq", allocationSize = 50)
     private int id;
 
     @Size(min = 1, max = 50)
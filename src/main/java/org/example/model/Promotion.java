@@ -15,7 +15,10 @@ import java.time.LocalDate;
  * An entity for representing promotions.
  */
 @Entity
-@Table(name = "promotion")
+@Table(name = "promotion",
+        indexes = {
+                @Index(name = "idx_promotion_discount_percentage_id", columnList = "discount_percentage, promotion_id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,7 +27,8 @@ public class Promotion {
 
     @Id
     @Column(name = "promotion_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "promotion_seq")
+    @SequenceGenerator(name = "promotion_seq", sequenceName = "promotion_promotion_id_seq", allocationSize = 50)
     private int id;
 
     @Size(max = 100)
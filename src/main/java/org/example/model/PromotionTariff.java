@@ -7,7 +7,10 @@ import lombok.*;
  * An entity to represent the relationship between promotions and tariffs.
  */
 @Entity
-@Table(name = "promotions_tariffs")
+@Table(name = "promotions_tariffs",
+        indexes = {
+                @Index(name = "idx_promotions_tariffs_tariff_id", columnList = "tariff_id")
+        })
 @Getter
 @Setter
 @Builder
@@ -17,7 +20,8 @@ public class PromotionTariff {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "promotions_tariffs_seq")
+    @SequenceGenerator(name = "promotions_tariffs_seq", sequenceName = "promotions_tariffs_id_seq", allocationSize = 50)
     private int id;
 
     @ManyToOne(fetch = FetchType.LAZY)
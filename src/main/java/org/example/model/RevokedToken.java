@@ -0,0 +1,32 @@
+package org.example.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * An entity for storing revoked JWT tokens.
+ * Only the SHA-256 digest of the token is stored, together with the token expiration time.
+ */
+@Entity
+@Table(name = "revoked_token")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_digest")
+    private String tokenDigest;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+}
@@ -8,7 +8,23 @@ import lombok.*;
  * An entity for representing subscriptions.
  */
 @Entity
-@Table(name = "subscription")
+@NamedEntityGraph(name = Subscription.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "user", subgraph = "user"),
+                @NamedAttributeNode(value = "plan", subgraph = "plan")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "user", attributeNodes = {
+                        @NamedAttributeNode("role"),
+                        @NamedAttributeNode("status")
+                }),
+                @NamedSubgraph(name = "plan", attributeNodes = @NamedAttributeNode("tariff"))
+        })
+@Table(name = "subscription",
+        indexes = {
+                @Index(name = "idx_subscription_user_id_status", columnList = "user_id, status"),
+                @Index(name = "idx_subscription_plan_id", columnList = "plan_id")
+        })
 @Getter
 @Setter
 @Builder
@@ -16,9 +32,16 @@ import lombok.*;
 @AllArgsConstructor
 public class Subscription {
 
+    /**
+     * Entity graph with everything `SubscriptionResponseDTO` needs: the user with its role and status,
+     * and the plan with its tariff.
+     */
+    public static final String DETAILS_GRAPH = "Subscription.details";
+
     @Id
     @Column(name = "subscription_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subscription_seq")
+    @SequenceGenerator(name = "subscription_seq", sequenceName = "subscription_subscription_id_seq", allocationSize = 50)
     private int id;
 
     @Size(min = 6, max = 20)
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -14,9 +16,12 @@ import java.util.List;
  * An entity for representing tariffs.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tariff")
 @Table(name = "tariff",
         indexes = {
-                @Index(name = "idx_tariff_name", columnList = "tariff_name")
+                @Index(name = "idx_tariff_name", columnList = "tariff_name"),
+                @Index(name = "idx_tariff_name_id", columnList = "tariff_name, tariff_id")
         })
 @Getter
 @Setter
@@ -27,7 +32,8 @@ public class Tariff {
 
     @Id
     @Column(name = "tariff_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tariff_seq")
+    @SequenceGenerator(name = "tariff_seq", sequenceName = "tariff_tariff_id_seq", allocationSize = 50)
     private int id;
 
     @Size(min = 2, max = 50)
@@ -30,7 +30,8 @@ public class User implements UserDetails {
 
     @Id
     @Column(name = "user_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_user_id_seq", allocationSize = 50)
     private int id;
 
     @Size(min = 3, max = 32)
@@ -57,6 +58,9 @@ public class User implements UserDetails {
     @JoinColumn(name = "status_id")
     private Status status;
 
+    @Column(name = "token_version")
+    private int tokenVersion;
+
     @OneToMany(mappedBy = "user")
     private List<Subscription> subscriptions;
 
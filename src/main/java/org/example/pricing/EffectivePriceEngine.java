@@ -0,0 +1,217 @@
+package org.example.pricing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.cache.CatalogSnapshot;
+import org.example.dto.responsedto.EffectivePriceResponseDTO;
+import org.example.dto.responsedto.PromotionResponseDTO;
+import org.example.dto.responsedto.TariffResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Engine that resolves the discounted prices of tariffs from their promotions.
+ * For every tariff it keeps a timeline of the dates on which its best active promotion changes,
+ * with the best promotion from each date on, so the discount for any date is found with one `floorEntry` lookup.
+ * The timelines are built from the {@link CatalogSnapshot} and rebuilt when a snapshot of a newer catalog version
+ * is published.
+ * The last computed price list is kept together with the period during which no tariff changes its price,
+ * and is reused for any date in that period until the next promotion boundary or catalog change.
+ */
+@Slf4j
+@Component
+public class EffectivePriceEngine {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final Comparator<PromotionResponseDTO> BEST_PROMOTION = Comparator
+            .comparing(PromotionResponseDTO::getDiscountPercentage)
+            .thenComparing(PromotionResponseDTO::getId, Comparator.reverseOrder());
+
+    private final CatalogSnapshot catalogSnapshot;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Timelines timelines;
+
+    private volatile PriceList priceList;
+
+    public EffectivePriceEngine(CatalogSnapshot catalogSnapshot) {
+        this.catalogSnapshot = catalogSnapshot;
+    }
+
+    /**
+     * Get the effective prices of all tariffs on the date.
+     *
+     * @param date Date the prices apply to.
+     * @return Effective prices ordered by tariff ID.
+     */
+    public List<EffectivePriceResponseDTO> getEffectivePrices(LocalDate date) {
+        // The version is read before the snapshot content, so the content is never older than its version.
+        long version = catalogSnapshot.version();
+
+        PriceList current = priceList;
+        if (current != null && current.covers(version, date)) {
+            return current.prices();
+        }
+
+        Timelines currentTimelines = timelines(version);
+        LocalDate validFrom = LocalDate.MIN;
+        LocalDate validUntil = null;
+        List<EffectivePriceResponseDTO> prices = new ArrayList<>();
+
+        for (TariffResponseDTO tariff : catalogSnapshot.findTariffs()) {
+            NavigableMap<LocalDate, PromotionResponseDTO> timeline = currentTimelines.byTariffId()
+                    .getOrDefault(tariff.getId(), Timelines.NO_PROMOTIONS);
+            Map.Entry<LocalDate, PromotionResponseDTO> entry = timeline.floorEntry(date);
+            LocalDate nextChange = timeline.higherKey(date);
+
+            if (entry.getKey().isAfter(validFrom)) {
+                validFrom = entry.getKey();
+            }
+            if (nextChange != null && (validUntil == null || nextChange.isBefore(validUntil))) {
+                validUntil = nextChange;
+            }
+            prices.add(toEffectivePrice(tariff, entry.getValue(), nextChange));
+        }
+
+        List<EffectivePriceResponseDTO> result = List.copyOf(prices);
+        priceList = new PriceList(version, validFrom, validUntil, result);
+        return result;
+    }
+
+    /**
+     * Get the promotion timelines of the catalog version, rebuilding them if the catalog has changed.
+     *
+     * @param version Snapshot version read before the lookup.
+     * @return Promotion timelines.
+     */
+    private Timelines timelines(long version) {
+        Timelines current = timelines;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+
+        rebuildLock.lock();
+        try {
+            current = timelines;
+            if (current == null || current.version() != version) {
+                current = new Timelines(version, catalogSnapshot.findTariffs()
+                        .stream()
+                        .collect(Collectors.toUnmodifiableMap(TariffResponseDTO::getId,
+                                tariff -> buildTimeline(catalogSnapshot.findPromotionsByTariff(tariff.getId())))));
+                timelines = current;
+                log.info("Promotion timelines rebuilt for catalog version " + version);
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Build the timeline of the best promotion of a tariff.
+     * The best promotion can only change on the first day of a promotion or on the day after its last day,
+     * so it is resolved once for each such date, and dates that do not change it are dropped.
+     *
+     * @param promotions Promotions of the tariff.
+     * @return Map of the dates on which the best promotion changes to the best promotion from that date on,
+     * `null` if there is none. It always contains `LocalDate.MIN`.
+     */
+    private NavigableMap<LocalDate, PromotionResponseDTO> buildTimeline(List<PromotionResponseDTO> promotions) {
+        List<PromotionResponseDTO> discounts = promotions.stream()
+                .filter(promotion -> promotion.getDiscountPercentage() != null)
+                .toList();
+
+        NavigableSet<LocalDate> boundaries = new TreeSet<>();
+        boundaries.add(LocalDate.MIN);
+        for (PromotionResponseDTO promotion : discounts) {
+            if (promotion.getStartDate() != null) {
+                boundaries.add(promotion.getStartDate());
+            }
+            if (promotion.getEndDate() != null && promotion.getEndDate().isBefore(LocalDate.MAX)) {
+                boundaries.add(promotion.getEndDate().plusDays(1));
+            }
+        }
+
+        TreeMap<LocalDate, PromotionResponseDTO> timeline = new TreeMap<>();
+        PromotionResponseDTO previous = null;
+        for (LocalDate boundary : boundaries) {
+            PromotionResponseDTO best = discounts.stream()
+                    .filter(promotion -> isActive(promotion, boundary))
+                    .max(BEST_PROMOTION)
+                    .orElse(null);
+            if (timeline.isEmpty() || !Objects.equals(best, previous)) {
+                timeline.put(boundary, best);
+                previous = best;
+            }
+        }
+        return Collections.unmodifiableNavigableMap(timeline);
+    }
+
+    private static boolean isActive(PromotionResponseDTO promotion, LocalDate date) {
+        return (promotion.getStartDate() == null || !promotion.getStartDate().isAfter(date))
+                && (promotion.getEndDate() == null || !promotion.getEndDate().isBefore(date));
+    }
+
+    private static EffectivePriceResponseDTO toEffectivePrice(TariffResponseDTO tariff,
+                                                              PromotionResponseDTO promotion,
+                                                              LocalDate nextChange) {
+        BigDecimal monthlyCost = tariff.getMonthlyCost();
+        BigDecimal discount = promotion != null ? promotion.getDiscountPercentage() : BigDecimal.ZERO;
+        BigDecimal effectivePrice = monthlyCost != null
+                ? monthlyCost.multiply(HUNDRED.subtract(discount.min(HUNDRED))).divide(HUNDRED, 2, RoundingMode.HALF_UP)
+                : null;
+
+        return new EffectivePriceResponseDTO(tariff.getId(),
+                tariff.getName(),
+                monthlyCost,
+                promotion != null ? promotion.getId() : null,
+                promotion != null ? promotion.getTitle() : null,
+                discount,
+                effectivePrice,
+                nextChange != null ? nextChange.minusDays(1) : null);
+    }
+
+    /**
+     * Promotion timelines of all tariffs for one catalog version.
+     */
+    private record Timelines(long version, Map<Integer, NavigableMap<LocalDate, PromotionResponseDTO>> byTariffId) {
+
+        private static final NavigableMap<LocalDate, PromotionResponseDTO> NO_PROMOTIONS = noPromotions();
+
+        private static NavigableMap<LocalDate, PromotionResponseDTO> noPromotions() {
+            TreeMap<LocalDate, PromotionResponseDTO> timeline = new TreeMap<>();
+            timeline.put(LocalDate.MIN, null);
+            return Collections.unmodifiableNavigableMap(timeline);
+        }
+    }
+
+    /**
+     * Effective prices of all tariffs, valid from `validFrom` until the day before `validUntil`.
+     *
+     * @param validUntil First date on which any tariff changes its price, or `null` if none does.
+     */
+    private record PriceList(long version, LocalDate validFrom, LocalDate validUntil, List<EffectivePriceResponseDTO> prices) {
+
+        private boolean covers(long currentVersion, LocalDate date) {
+            return version == currentVersion
+                    && !date.isBefore(validFrom)
+                    && (validUntil == null || date.isBefore(validUntil));
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.dto.responsedto.PlanResponseDTO;
 import org.example.model.Plan;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -15,5 +22,19 @@ public interface PlanRepository extends JpaRepository<Plan, Integer> {
 
     boolean existsByName(String name);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Plan> findAll(@NonNull Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT new org.example.dto.responsedto.PlanResponseDTO(p.id, p.name, p.description, " +
+            "p.startDate, p.endDate, t.id, t.name, t.description, t.monthlyCost, t.dataLimit, t.voiceLimit) " +
+            "FROM Plan p LEFT JOIN p.tariff t",
+            countQuery = "SELECT COUNT(p) FROM Plan p")
+    Page<PlanResponseDTO> findAllResponses(Pageable pageable);
+
+    @Query("SELECT p FROM Plan p LEFT JOIN FETCH p.tariff ORDER BY p.name, p.id")
+    Slice<Plan> findFirstSlice(Pageable pageable);
+
+    @Query("SELECT p FROM Plan p LEFT JOIN FETCH p.tariff WHERE (p.name, p.id) > (:name, :id) ORDER BY p.name, p.id")
+    Slice<Plan> findSliceAfter(@Param("name") String name, @Param("id") int id, Pageable pageable);
 }
@@ -3,15 +3,31 @@ package org.example.repository;
 import org.example.model.Promotion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+
 /**
  * Repository for working with the `Promotion` entity.
+ * Promotion slices are keyed on `COALESCE(discountPercentage, 0)`, since the discount is nullable
+ * and a `NULL` key would never match the seek condition.
  */
 @Repository
 public interface PromotionRepository extends JpaRepository<Promotion, Integer> {
 
     Page<Promotion> findAll(@NonNull Pageable pageable);
+
+    @Query("SELECT p FROM Promotion p ORDER BY COALESCE(p.discountPercentage, 0), p.id")
+    Slice<Promotion> findFirstSlice(Pageable pageable);
+
+    @Query("SELECT p FROM Promotion p WHERE (COALESCE(p.discountPercentage, 0), p.id) > (:discountPercentage, :id) " +
+            "ORDER BY COALESCE(p.discountPercentage, 0), p.id")
+    Slice<Promotion> findSliceAfter(@Param("discountPercentage") BigDecimal discountPercentage,
+                                    @Param("id") int id,
+                                    Pageable pageable);
 }
@@ -1,9 +1,13 @@
 package org.example.repository;
 
+import org.example.dto.responsedto.PromotionTariffResponseDTO;
 import org.example.model.PromotionTariff;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -13,4 +17,18 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PromotionTariffRepository extends JpaRepository<PromotionTariff, Integer> {
     Page<PromotionTariff> findAll(@NonNull Pageable pageable);
+
+    @Query(value = "SELECT new org.example.dto.responsedto.PromotionTariffResponseDTO(pt.id, " +
+            "t.id, t.name, t.description, t.monthlyCost, t.dataLimit, t.voiceLimit, " +
+            "p.id, p.title, p.description, p.discountPercentage, p.startDate, p.endDate) " +
+            "FROM PromotionTariff pt LEFT JOIN pt.tariff t LEFT JOIN pt.promotion p",
+            countQuery = "SELECT COUNT(pt) FROM PromotionTariff pt")
+    Page<PromotionTariffResponseDTO> findAllResponses(Pageable pageable);
+
+    @Query("SELECT pt FROM PromotionTariff pt LEFT JOIN FETCH pt.tariff LEFT JOIN FETCH pt.promotion ORDER BY pt.id")
+    Slice<PromotionTariff> findFirstSlice(Pageable pageable);
+
+    @Query("SELECT pt FROM PromotionTariff pt LEFT JOIN FETCH pt.tariff LEFT JOIN FETCH pt.promotion " +
+            "WHERE pt.id > :id ORDER BY pt.id")
+    Slice<PromotionTariff> findSliceAfter(@Param("id") int id, Pageable pageable);
 }
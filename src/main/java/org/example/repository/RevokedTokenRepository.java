@@ -0,0 +1,32 @@
+package org.example.repository;
+
+import org.example.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for working with the `RevokedToken` entity.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    List<RevokedToken> findAllByExpiresAtAfter(Instant now);
+
+    @Modifying
+    @Query(value = "INSERT INTO revoked_token (token_digest, expires_at) VALUES (:tokenDigest, :expiresAt) " +
+            "ON CONFLICT (token_digest) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("tokenDigest") String tokenDigest, @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM revoked_token WHERE token_digest IN " +
+            "(SELECT token_digest FROM revoked_token WHERE expires_at < :now LIMIT :batchSize)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
+}
@@ -1,9 +1,13 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.model.Status;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,8 +16,13 @@ import java.util.Optional;
 @Repository
 public interface StatusRepository extends JpaRepository<Status, Integer> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Status> findByName(String name);
 
     boolean existsByName(String name);
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Status> findAll();
+
 }
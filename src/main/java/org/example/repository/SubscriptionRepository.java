@@ -1,10 +1,18 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.model.Subscription;
+import org.example.util.ProviderConstantUtil;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for working with the `Subscription` entity.
@@ -14,9 +22,28 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Inte
 
     Optional<Subscription> findByUserIdAndStatus(Integer userId, String status);
 
+    @EntityGraph(Subscription.DETAILS_GRAPH)
+    List<Subscription> findAllWithDetailsBy();
+
+    @EntityGraph(Subscription.DETAILS_GRAPH)
+    Optional<Subscription> findWithDetailsById(Integer id);
+
+    @EntityGraph(Subscription.DETAILS_GRAPH)
+    Optional<Subscription> findWithDetailsByUserIdAndStatus(Integer userId, String status);
+
     boolean existsByUserIdAndPlanIdAndStatus(Integer userId, Integer planId, String status);
 
     boolean existsByUserIdAndStatus(Integer userId, String status);
 
     boolean existsByUserId(Integer userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + ProviderConstantUtil.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Subscription s " +
+            "LEFT JOIN FETCH s.user u LEFT JOIN FETCH u.role LEFT JOIN FETCH u.status " +
+            "LEFT JOIN FETCH s.plan p LEFT JOIN FETCH p.tariff " +
+            "ORDER BY s.id")
+    Stream<Subscription> streamAll();
 }
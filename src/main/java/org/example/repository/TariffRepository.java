@@ -1,9 +1,16 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.dto.responsedto.TariffResponseDTO;
 import org.example.model.Tariff;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -15,5 +22,19 @@ public interface TariffRepository extends JpaRepository<Tariff, Integer> {
 
     boolean existsByName(String name);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Tariff> findAll(@NonNull Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT new org.example.dto.responsedto.TariffResponseDTO(t.id, t.name, t.description, " +
+            "t.monthlyCost, t.dataLimit, t.voiceLimit) " +
+            "FROM Tariff t",
+            countQuery = "SELECT COUNT(t) FROM Tariff t")
+    Page<TariffResponseDTO> findAllResponses(Pageable pageable);
+
+    @Query("SELECT t FROM Tariff t ORDER BY t.name, t.id")
+    Slice<Tariff> findFirstSlice(Pageable pageable);
+
+    @Query("SELECT t FROM Tariff t WHERE (t.name, t.id) > (:name, :id) ORDER BY t.name, t.id")
+    Slice<Tariff> findSliceAfter(@Param("name") String name, @Param("id") int id, Pageable pageable);
 }
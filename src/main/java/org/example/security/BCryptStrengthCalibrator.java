@@ -0,0 +1,66 @@
+package org.example.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * Utility class for choosing the BCrypt strength that matches a target hashing latency on the current hardware.
+ * Each additional strength point doubles the hashing time, so measuring one strength is enough to estimate the strength.
+ * The measurement is the median of several runs after a warm-up, so a noisy start does not skew it,
+ * and the result is clamped to a configured range, so instances of one cluster stay within known work factors.
+ */
+@Slf4j
+public class BCryptStrengthCalibrator {
+
+    private static final int MIN_STRENGTH = 4;
+
+    private static final int MAX_STRENGTH = 31;
+
+    private static final int MEASURED_STRENGTH = 10;
+
+    private static final int WARM_UP_RUNS = 3;
+
+    private static final int MEASUREMENTS = 7;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    /**
+     * Estimate the BCrypt strength whose hashing time is closest to the target, within the configured range.
+     *
+     * @param targetMillis Target hashing time in milliseconds.
+     * @param minStrength  Lowest strength that may be chosen.
+     * @param maxStrength  Highest strength that may be chosen.
+     * @return BCrypt strength.
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        if (minStrength < MIN_STRENGTH || maxStrength > MAX_STRENGTH || minStrength > maxStrength) {
+            throw new IllegalArgumentException("Invalid BCrypt strength range: " + minStrength + " to " + maxStrength);
+        }
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MEASURED_STRENGTH);
+        String hash = encoder.encode(SAMPLE_PASSWORD);
+
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            encoder.matches(SAMPLE_PASSWORD, hash);
+        }
+
+        long[] samples = new long[MEASUREMENTS];
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+
+        double measuredMillis = Math.max(samples[MEASUREMENTS / 2] / 1_000_000.0, 0.001);
+        int strength = MEASURED_STRENGTH + (int) Math.round(Math.log(targetMillis / measuredMillis) / Math.log(2));
+        strength = Math.max(minStrength, Math.min(maxStrength, strength));
+
+        log.info("BCrypt strength " + MEASURED_STRENGTH + " takes " + String.format("%.1f", measuredMillis)
+                + " ms (median of " + MEASUREMENTS + " runs), strength " + strength + " chosen for the target of "
+                + targetMillis + " ms within " + minStrength + " to " + maxStrength);
+        return strength;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A JWT token whose signature has already been verified.
+ * Holds the claims needed to authenticate a request, so the token is parsed only once.
+ * Tokens issued with a token version also carry the user ID, role and status,
+ * which is enough to build the principal without loading the user.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final String subject;
+
+    private final Date expiration;
+
+    private final Date issuedAt;
+
+    private final List<String> authorities;
+
+    private final Integer userId;
+
+    private final Integer roleId;
+
+    private final String roleName;
+
+    private final Integer statusId;
+
+    private final String statusName;
+
+    private final Integer tokenVersion;
+
+    /**
+     * Check if the token has expired.
+     *
+     * @return true - if the token has expired, false - otherwise.
+     */
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    /**
+     * Check if the token carries the user ID, role, status and token version claims.
+     * Tokens issued before token versioning was introduced do not have them.
+     *
+     * @return true - if the token is versioned, false - otherwise.
+     */
+    public boolean isVersioned() {
+        return userId != null && roleId != null && statusId != null && tokenVersion != null;
+    }
+}
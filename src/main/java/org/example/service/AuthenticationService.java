@@ -2,6 +2,7 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.PrincipalCache;
 import org.example.dto.requestdto.AuthenticationRequestDTO;
 import org.example.dto.requestdto.RegisterRequestDTO;
 import org.example.dto.responsedto.AuthenticationResponseDTO;
@@ -12,11 +13,12 @@ import org.example.util.ProviderConstantUtil;
 import org.example.validator.authenticationvalidator.AuthenticationValidator;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * User authentication service.
@@ -36,7 +38,7 @@ public class AuthenticationService {
 
     private final JwtService jwtService;
 
-    private final AuthenticationManager authenticationManager;
+    private final PrincipalCache principalCache;
 
     private final AuthenticationValidator authenticationValidator;
 
@@ -73,21 +75,32 @@ public class AuthenticationService {
 
     /**
      * User authentication.
+     * If the password has already been verified by the `@ValidPassword` constraint, the verified user
+     * is taken from the request attributes. Otherwise the user is loaded once and the password is checked once.
+     * If the stored password hash is outdated, it is upgraded with the verified password.
      *
      * @param request request DTO object with data for user authentication.
      * @return AuthenticationResponseDTO DTO object with a JWT token.
      */
     @Transactional
     public AuthenticationResponseDTO authenticate(AuthenticationRequestDTO request) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
-                request.getUsername(),
-                request.getPassword()));
+        User user = getVerifiedUser(request);
+
+        if (user == null) {
+            user = principalCache.get(request.getUsername(), userService::findUserByUsername)
+                    .orElseThrow(() -> new ProviderNotFoundException(messageSource.getMessage(
+                            "user.error.not_found.by_username",
+                            new Object[]{request.getUsername()},
+                            LocaleContextHolder.getLocale())));
+
+            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+                throw new BadCredentialsException("Bad credentials");
+            }
+        }
 
-        User user = userService.findUserByUsername(request.getUsername())
-                .orElseThrow(() -> new ProviderNotFoundException(messageSource.getMessage(
-                        "user.error.not_found.by_username",
-                        new Object[]{request.getUsername()},
-                        LocaleContextHolder.getLocale())));
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            userService.upgradePasswordHash(user.getId(), request.getPassword());
+        }
 
         String jwtToken = jwtService.generateToken(user);
 
@@ -96,6 +109,26 @@ public class AuthenticationService {
                 .build();
     }
 
+    /**
+     * Get the user whose password was verified earlier in the same request.
+     *
+     * @param request request DTO object with data for user authentication.
+     * @return The verified user, or null if the password has not been verified for this username.
+     */
+    private User getVerifiedUser(AuthenticationRequestDTO request) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Object user = attributes.getAttribute(ProviderConstantUtil.AUTHENTICATED_USER_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (user instanceof User verifiedUser && verifiedUser.getUsername().equals(request.getUsername())) {
+            return verifiedUser;
+        }
+        return null;
+    }
+
     /**
      * Create a user object from a registration DTO.
      *
@@ -1,18 +1,26 @@
 package org.example.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.cache.VerifiedTokenCache;
+import org.example.model.User;
+import org.example.security.VerifiedToken;
 import org.example.util.ProviderConstantUtil;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -20,11 +28,64 @@ import java.util.function.Function;
  * Service for working with JWT tokens.
  */
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
     @Value("${jwt.secret}")
     private String secretKey;
 
+    private Key signInKey;
+
+    private JwtParser jwtParser;
+
+    /**
+     * Decode the signing key and build the JWT parser once per process.
+     * Both objects are immutable and thread-safe, so they are shared by all requests.
+     */
+    @PostConstruct
+    public void init() {
+        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        signInKey = Keys.hmacShaKeyFor(keyBytes);
+        jwtParser = Jwts
+                .parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
+
+    /**
+     * Parse the JWT token and verify its signature.
+     * The returned object holds all the claims needed to authenticate a request.
+     * Tokens that have already been verified are taken from the `VerifiedTokenCache`.
+     *
+     * @param token JWT token.
+     * @return The verified token.
+     */
+    public VerifiedToken verifyToken(String token) {
+        return verifiedTokenCache.get(token, this::parseToken);
+    }
+
+    /**
+     * Parse the JWT token and verify its signature without using the cache.
+     *
+     * @param token JWT token.
+     * @return The verified token.
+     */
+    private VerifiedToken parseToken(String token) {
+        final Claims claims = extractAllClaims(token);
+        return new VerifiedToken(claims.getSubject(),
+                claims.getExpiration(),
+                claims.getIssuedAt(),
+                extractAuthorities(claims),
+                extractInteger(claims, ProviderConstantUtil.JWT_CLAIM_USER_ID),
+                extractInteger(claims, ProviderConstantUtil.JWT_CLAIM_ROLE_ID),
+                claims.get(ProviderConstantUtil.JWT_CLAIM_ROLE, String.class),
+                extractInteger(claims, ProviderConstantUtil.JWT_CLAIM_STATUS_ID),
+                claims.get(ProviderConstantUtil.JWT_CLAIM_STATUS, String.class),
+                extractInteger(claims, ProviderConstantUtil.JWT_CLAIM_TOKEN_VERSION));
+    }
+
     /**
      * Extract username from JWT token.
      * @param token JWT token.
@@ -48,11 +109,28 @@ public class JwtService {
 
     /**
      * Create a JWT token.
+     * For a `User` the token also carries the user ID, role, status and token version,
+     * so requests with this token can be authorized without loading the user.
      * @param userDetails The user for whom the token is created.
      * @return JWT token.
      */
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(ProviderConstantUtil.JWT_CLAIM_AUTHORITIES, userDetails.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+
+        if (userDetails instanceof User user) {
+            claims.put(ProviderConstantUtil.JWT_CLAIM_USER_ID, user.getId());
+            claims.put(ProviderConstantUtil.JWT_CLAIM_ROLE_ID, user.getRole().getId());
+            claims.put(ProviderConstantUtil.JWT_CLAIM_ROLE, user.getRole().getName());
+            claims.put(ProviderConstantUtil.JWT_CLAIM_STATUS_ID, user.getStatus().getId());
+            claims.put(ProviderConstantUtil.JWT_CLAIM_STATUS, user.getStatus().getName());
+            claims.put(ProviderConstantUtil.JWT_CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        }
+
+        return generateToken(claims, userDetails);
     }
 
     /**
@@ -68,7 +146,7 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + ProviderConstantUtil.ADDITIONAL_MILLIS))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -79,26 +157,18 @@ public class JwtService {
      * @return true - if the token is valid, false - otherwise.
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    /**
-     * Check if the JWT token has expired.
-     * @param token JWT token.
-     * @return true - if the token has expired, false - otherwise.
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isTokenValid(verifyToken(token), userDetails);
     }
 
     /**
-     * Retrieve the expiration date of the JWT token.
-     * @param token JWT token.
-     * @return The expiration date of the token.
+     * Check the validity of an already verified JWT token.
+     * @param verifiedToken Verified JWT token.
+     * @param userDetails User safety details.
+     * @return true - if the token is valid, false - otherwise.
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(VerifiedToken verifiedToken, UserDetails userDetails) {
+        final String username = verifiedToken.getSubject();
+        return (username.equals(userDetails.getUsername())) && !verifiedToken.isExpired();
     }
 
     /**
@@ -107,20 +177,37 @@ public class JwtService {
      * @return A `Claims` object containing all the fields of the token.
      */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
     /**
-     * Get the secret key for signing the JWT token.
-     * @return Secret key for signing the token.
+     * Extract the granted authorities from the token fields.
+     * @param claims Token fields.
+     * @return List of authority names, empty if the token has none.
      */
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private List<String> extractAuthorities(Claims claims) {
+        Object authorities = claims.get(ProviderConstantUtil.JWT_CLAIM_AUTHORITIES);
+
+        if (authorities instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        return List.of();
+    }
+
+    /**
+     * Extract an integer field from the token fields.
+     * @param claims Token fields.
+     * @param name Field name.
+     * @return The field value, or null if the token does not have it.
+     */
+    private Integer extractInteger(Claims claims, String name) {
+        Object value = claims.get(name);
+
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        return null;
     }
 }
@@ -2,6 +2,7 @@ package org.example.service;
 
 import org.example.dto.requestdto.CreatePlanRequestDTO;
 import org.example.dto.requestdto.UpdatePlanRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
 import org.example.dto.responsedto.PlanResponseDTO;
 import org.example.model.Plan;
 import org.springframework.data.domain.Page;
@@ -20,6 +21,8 @@ public interface PlanService {
 
     Page<PlanResponseDTO> getAllPlans(Pageable pageable);
 
+    CursorSliceResponseDTO<PlanResponseDTO> getPlanSlice(String cursor, int size);
+
     PlanResponseDTO getPlanById(Integer id);
 
     PlanResponseDTO createPlan(CreatePlanRequestDTO createPlanRequestDTO);
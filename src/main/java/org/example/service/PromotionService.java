@@ -2,6 +2,7 @@ package org.example.service;
 
 import org.example.dto.requestdto.CreatePromotionRequestDTO;
 import org.example.dto.requestdto.UpdatePromotionRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
 import org.example.dto.responsedto.PromotionResponseDTO;
 import org.example.model.Promotion;
 import org.springframework.data.domain.Page;
@@ -20,6 +21,8 @@ public interface PromotionService {
 
     Page<PromotionResponseDTO> getAllPromotions(Pageable pageable);
 
+    CursorSliceResponseDTO<PromotionResponseDTO> getPromotionSlice(String cursor, int size);
+
     PromotionResponseDTO getPromotionById(Integer id);
 
     PromotionResponseDTO createPromotion(CreatePromotionRequestDTO createPromotionRequestDTO);
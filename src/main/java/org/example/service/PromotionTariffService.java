@@ -2,6 +2,7 @@ package org.example.service;
 
 import org.example.dto.requestdto.CreatePromotionTariffRequestDTO;
 import org.example.dto.requestdto.UpdatePromotionTariffRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
 import org.example.dto.responsedto.PromotionTariffResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +18,8 @@ import org.springframework.stereotype.Component;
 public interface PromotionTariffService {
     Page<PromotionTariffResponseDTO> getAllPromotionsTariffs(Pageable pageable);
 
+    CursorSliceResponseDTO<PromotionTariffResponseDTO> getPromotionTariffSlice(String cursor, int size);
+
     PromotionTariffResponseDTO getPromotionTariffById(Integer id);
 
     PromotionTariffResponseDTO createPromotionTariff(CreatePromotionTariffRequestDTO createPromotionTariffRequestDTO);
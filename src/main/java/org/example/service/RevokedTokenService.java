@@ -0,0 +1,23 @@
+package org.example.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * This interface defines the backend that stores revoked tokens outside the application heap,
+ * so that revocations survive restarts and are shared between application instances.
+ * Tokens are identified by their SHA-256 digest.
+ */
+@Component
+public interface RevokedTokenService {
+    void save(String tokenDigest, long expirationTime);
+
+    Map<String, Long> findActive();
+
+    Optional<Long> findExpiration(String tokenDigest);
+
+    void subscribe(BiConsumer<String, Long> listener);
+}
@@ -3,8 +3,10 @@ package org.example.service;
 import org.example.dto.requestdto.CreateSubscriptionRequestDTO;
 import org.example.dto.requestdto.UpdateSubscriptionRequestDTO;
 import org.example.dto.responsedto.SubscriptionResponseDTO;
+import org.example.export.ExportFormat;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -15,6 +17,8 @@ import java.util.List;
 public interface SubscriptionService {
     List<SubscriptionResponseDTO> getAllSubscriptions();
 
+    void exportSubscriptions(ExportFormat format, OutputStream outputStream);
+
     SubscriptionResponseDTO getSubscriptionById(Integer id);
 
     SubscriptionResponseDTO getSubscriptionByClientIdAndStatus(Integer id);
@@ -2,12 +2,17 @@ package org.example.service;
 
 import org.example.dto.requestdto.CreateTariffRequestDTO;
 import org.example.dto.requestdto.UpdateTariffRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
+import org.example.dto.responsedto.EffectivePriceResponseDTO;
 import org.example.dto.responsedto.TariffResponseDTO;
 import org.example.model.Tariff;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * This interface defines methods for CRUD (Create, Read, Update, Delete) operations on tariffs.
  * It also provides methods for retrieving tariffs by ID and paginated queries.
@@ -20,8 +25,12 @@ public interface TariffService {
 
     Page<TariffResponseDTO> getAllTariffs(Pageable pageable);
 
+    CursorSliceResponseDTO<TariffResponseDTO> getTariffSlice(String cursor, int size);
+
     TariffResponseDTO getTariffById(Integer id);
 
+    List<EffectivePriceResponseDTO> getEffectivePrices(LocalDate date);
+
     TariffResponseDTO createTariff(CreateTariffRequestDTO tariffRequestDTO);
 
     TariffResponseDTO updateTariff(Integer id, UpdateTariffRequestDTO updateTariffRequestDTO);
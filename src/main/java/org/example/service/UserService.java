@@ -5,9 +5,11 @@ import org.example.dto.requestdto.PasswordChangeRequestDTO;
 import org.example.dto.requestdto.ProfileUpdateRequestDTO;
 import org.example.dto.requestdto.UpdateUserRequestDTO;
 import org.example.dto.responsedto.UserResponseDTO;
+import org.example.export.ExportFormat;
 import org.example.model.User;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,8 @@ public interface UserService {
 
     List<UserResponseDTO> getAllUsers();
 
+    void exportUsers(ExportFormat format, OutputStream outputStream);
+
     UserResponseDTO getUserById(Integer id);
 
     UserResponseDTO createUser(CreateUserRequestDTO createUserRequestDTO);
@@ -37,6 +41,8 @@ public interface UserService {
 
     void changePassword(Integer id, PasswordChangeRequestDTO passwordChangeRequestDTO);
 
+    void upgradePasswordHash(Integer id, String rawPassword);
+
     void updateProfile(Integer id, ProfileUpdateRequestDTO profileUpdateRequestDTO);
 
     void deleteUser(Integer id);
@@ -0,0 +1,134 @@
+package org.example.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.listener.PostgresNotificationListener;
+import org.example.model.RevokedToken;
+import org.example.repository.RevokedTokenRepository;
+import org.example.service.RevokedTokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Revocation backend that stores revoked tokens in the `revoked_token` table.
+ * Every revocation is also published on a PostgreSQL notification channel in the same transaction,
+ * so other application instances receive it as soon as the transaction commits.
+ * Expired rows are purged in batches in the background.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "database", matchIfMissing = true)
+public class DatabaseRevokedTokenServiceImpl implements RevokedTokenService {
+
+    private static final String CHANNEL = "token_revoked";
+
+    private static final String PAYLOAD_SEPARATOR = ":";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PostgresNotificationListener postgresNotificationListener;
+
+    @Value("${jwt.revocation.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    /**
+     * Store the revoked token and notify other application instances.
+     * The notification is delivered only if the surrounding transaction commits.
+     *
+     * @param tokenDigest    SHA-256 digest of the token.
+     * @param expirationTime Token expiration time in milliseconds.
+     */
+    @Override
+    @Transactional
+    public void save(String tokenDigest, long expirationTime) {
+        revokedTokenRepository.insertIfAbsent(tokenDigest, Instant.ofEpochMilli(expirationTime));
+
+        jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) ps -> {
+            ps.setString(1, CHANNEL);
+            ps.setString(2, tokenDigest + PAYLOAD_SEPARATOR + expirationTime);
+            return ps.execute();
+        });
+    }
+
+    /**
+     * Load all revoked tokens that have not expired yet.
+     *
+     * @return Map of token digests to their expiration time in milliseconds.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> findActive() {
+        return revokedTokenRepository.findAllByExpiresAtAfter(Instant.now())
+                .stream()
+                .collect(Collectors.toMap(RevokedToken::getTokenDigest,
+                        revokedToken -> revokedToken.getExpiresAt().toEpochMilli()));
+    }
+
+    /**
+     * Look up the revocation of a single token.
+     * The lookup runs on the primary, so a revocation committed by another instance is found
+     * even if the replica has not received it yet.
+     *
+     * @param tokenDigest SHA-256 digest of the token.
+     * @return Expiration time in milliseconds, or empty if the token is not revoked or already expired.
+     */
+    @Override
+    @Transactional
+    public Optional<Long> findExpiration(String tokenDigest) {
+        Instant now = Instant.now();
+        return revokedTokenRepository.findById(tokenDigest)
+                .map(RevokedToken::getExpiresAt)
+                .filter(expiresAt -> expiresAt.isAfter(now))
+                .map(Instant::toEpochMilli);
+    }
+
+    /**
+     * Subscribe to revocations made by any application instance.
+     * Every time listening starts, including the first time, all active revocations are passed to the listener
+     * again, so revocations published before listening started or while the connection was down are not lost.
+     *
+     * @param listener Listener that receives the token digest and expiration time.
+     */
+    @Override
+    public void subscribe(BiConsumer<String, Long> listener) {
+        postgresNotificationListener.subscribe(CHANNEL, payload -> {
+            int separator = payload.lastIndexOf(PAYLOAD_SEPARATOR);
+            listener.accept(payload.substring(0, separator), Long.parseLong(payload.substring(separator + 1)));
+        });
+        postgresNotificationListener.onConnect(() -> findActive().forEach(listener));
+    }
+
+    /**
+     * Delete expired revoked tokens in batches, each batch in its own transaction,
+     * so the purge never holds long locks on the table.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:300000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int purged = 0;
+        int deleted;
+
+        do {
+            deleted = revokedTokenRepository.deleteExpiredBatch(now, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+
+        if (purged > 0) {
+            log.info("Purged " + purged + " expired revoked tokens");
+        }
+    }
+}
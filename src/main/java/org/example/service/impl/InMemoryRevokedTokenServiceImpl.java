@@ -0,0 +1,37 @@
+package org.example.service.impl;
+
+import org.example.service.RevokedTokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Revocation backend for a single application instance.
+ * Revoked tokens are kept only in the blacklist of the instance itself, so nothing is stored here
+ * and revocations are lost on restart, as are revocations evicted from the blacklist at its size limit.
+ */
+@Service
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "memory")
+public class InMemoryRevokedTokenServiceImpl implements RevokedTokenService {
+
+    @Override
+    public void save(String tokenDigest, long expirationTime) {
+    }
+
+    @Override
+    public Map<String, Long> findActive() {
+        return Map.of();
+    }
+
+    @Override
+    public Optional<Long> findExpiration(String tokenDigest) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, Long> listener) {
+    }
+}
@@ -1,50 +1,306 @@
 package org.example.service.impl;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cache.RevocationBloomFilter;
+import org.example.cache.VerifiedTokenCache;
+import org.example.security.VerifiedToken;
 import org.example.service.JwtBlacklistService;
+import org.example.service.JwtService;
+import org.example.service.RevokedTokenService;
 import org.example.util.ProviderConstantUtil;
+import org.example.util.TokenDigestUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Service for managing the blacklist of revoked JWT tokens.
+ * Tokens are stored as fixed-size SHA-256 digests and kept only until their own expiration time.
+ * Entries are grouped into time buckets by expiration time, and a background sweeper drops
+ * whole buckets once they have expired. The map size is capped: when the cap is reached, the entries closest
+ * to their natural expiration are evicted from the map, but stay in the Bloom filter, so a lookup of an evicted
+ * token falls through to the revocation backend, which stays authoritative.
+ * A rotating Bloom filter (`RevocationBloomFilter`) sits in front of the map, so a token that was never
+ * revoked, which is almost every token, is rejected by the filter without a map lookup.
+ * The map is a near cache of the revocation backend (`RevokedTokenService`): revocations are written
+ * through to the backend, loaded from it at startup and received from other application instances.
+ * A token that passes the filter but is not found in the backend either, i.e. a false positive, is remembered
+ * as not revoked until its own expiration, so it costs at most one backend lookup.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class JwtBlacklistServiceImpl implements JwtBlacklistService {
 
     private final Map<String, Long> tokenBlacklist = new ConcurrentHashMap<>();
 
+    private final NavigableMap<Long, Set<String>> expirationBuckets = new ConcurrentSkipListMap<>();
+
+    private final Cache<String, Long> notRevoked;
+
+    private final JwtService jwtService;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final RevocationBloomFilter revocationBloomFilter;
+
+    private final RevokedTokenService revokedTokenService;
+
+    private final long bucketMillis;
+
+    private final int maximumSize;
+
+    private final Counter sweptCounter;
+
+    private final Counter evictedCounter;
+
+    public JwtBlacklistServiceImpl(JwtService jwtService,
+                                   VerifiedTokenCache verifiedTokenCache,
+                                   RevocationBloomFilter revocationBloomFilter,
+                                   RevokedTokenService revokedTokenService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${jwt.blacklist.bucket-seconds:60}") long bucketSeconds,
+                                   @Value("${jwt.blacklist.maximum-size:100000}") int maximumSize,
+                                   @Value("${jwt.blacklist.negative-cache.maximum-size:100000}") long negativeCacheMaximumSize) {
+        this.jwtService = jwtService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationBloomFilter = revocationBloomFilter;
+        this.revokedTokenService = revokedTokenService;
+        this.bucketMillis = TimeUnit.SECONDS.toMillis(bucketSeconds);
+        this.maximumSize = maximumSize;
+        this.notRevoked = Caffeine.newBuilder()
+                .maximumSize(negativeCacheMaximumSize)
+                .expireAfter(new ExpirationTimeExpiry())
+                .build();
+
+        Gauge.builder("jwt.blacklist.size", tokenBlacklist, Map::size)
+                .description("Number of revoked tokens in the blacklist")
+                .register(meterRegistry);
+        Gauge.builder("jwt.blacklist.bloom.slices", revocationBloomFilter, RevocationBloomFilter::sliceCount)
+                .description("Number of live time slices in the revocation Bloom filter")
+                .register(meterRegistry);
+        this.sweptCounter = Counter.builder("jwt.blacklist.swept")
+                .description("Number of blacklist entries removed after token expiration")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("jwt.blacklist.evicted")
+                .description("Number of blacklist entries evicted to the revocation backend because of the size cap")
+                .register(meterRegistry);
+    }
+
     /**
-     * Add JWT token to blacklist with an expiration time.
+     * Load the active revocations from the backend and subscribe to revocations made by other instances.
+     */
+    @PostConstruct
+    public void init() {
+        revokedTokenService.findActive().forEach(this::revokeLocally);
+        revokedTokenService.subscribe(this::revokeLocally);
+    }
+
+    /**
+     * Add JWT token to blacklist until its expiration time.
+     * The token is also evicted from the `VerifiedTokenCache` right away.
+     * Tokens that are already expired or invalid cannot authenticate anyway and are not stored.
+     * The revocation is also written to the backend, which shares it with other instances.
      *
      * @param token JWT token to add to the blacklist.
      */
     @Override
     @Transactional
     public void addTokenToBlacklist(String token) {
-        long expirationTime = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(ProviderConstantUtil.TIME_OUT);
-        tokenBlacklist.put(token, expirationTime);
+        verifiedTokenCache.invalidate(token);
+
+        long expirationTime;
+        try {
+            VerifiedToken verifiedToken = jwtService.verifyToken(token);
+            expirationTime = verifiedToken.getExpiration() != null
+                    ? verifiedToken.getExpiration().getTime()
+                    : System.currentTimeMillis() + TimeUnit.HOURS.toMillis(ProviderConstantUtil.TIME_OUT);
+        } catch (JwtException e) {
+            log.info("Token is expired or invalid and is not added to the blacklist");
+            return;
+        }
+
+        String digest = TokenDigestUtil.digest(token);
+        revokeLocally(digest, expirationTime);
+        revokedTokenService.save(digest, expirationTime);
     }
 
     /**
      * Check if the JWT token is on the blacklist.
+     * The map is consulted only if the Bloom filter reports a possible match. If the map does not hold the token,
+     * the revocation backend decides: a revocation found there is added back to the map,
+     * and a token not found there is cached as not revoked until it expires.
      *
      * @param token JWT token for verification.
      * @return true - if the token is found in the black list, false - otherwise.
      */
     @Override
     public boolean isTokenBlacklisted(String token) {
-        Long expirationTime = tokenBlacklist.get(token);
+        byte[] digestBytes = TokenDigestUtil.digestBytes(token);
+
+        if (!revocationBloomFilter.mightContain(digestBytes)) {
+            return false;
+        }
+
+        String digest = TokenDigestUtil.toHex(digestBytes);
+        Long expirationTime = tokenBlacklist.get(digest);
+
+        if (expirationTime == null) {
+            if (notRevoked.getIfPresent(digest) != null) {
+                return false;
+            }
+
+            expirationTime = revokedTokenService.findExpiration(digest).orElse(null);
+            if (expirationTime != null) {
+                revokeLocally(digest, expirationTime);
+            } else {
+                rememberNotRevoked(token, digest);
+                // A revocation stored concurrently reaches the map first, so it is seen here if the negative entry
+                // was put after the revocation invalidated it.
+                expirationTime = tokenBlacklist.get(digest);
+                if (expirationTime != null) {
+                    notRevoked.invalidate(digest);
+                }
+            }
+        }
+        return expirationTime != null && expirationTime >= System.currentTimeMillis();
+    }
+
+    /**
+     * Cache a token that the revocation backend does not hold, until the token expires.
+     * Tokens that are invalid or have no expiration are not cached.
+     *
+     * @param token  JWT token.
+     * @param digest Hex-encoded SHA-256 digest of the token.
+     */
+    private void rememberNotRevoked(String token, String digest) {
+        try {
+            VerifiedToken verifiedToken = jwtService.verifyToken(token);
+            if (verifiedToken.getExpiration() != null) {
+                notRevoked.put(digest, verifiedToken.getExpiration().getTime());
+            }
+        } catch (JwtException e) {
+            log.debug("Token is expired or invalid and is not cached as not revoked");
+        }
+    }
+
+    /**
+     * Remove all buckets whose tokens have expired and rotate the Bloom filter.
+     * Runs in the background, so entries of tokens that are never looked up again do not stay in memory.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sweep-interval-ms:60000}")
+    public void sweepExpiredTokens() {
+        long now = System.currentTimeMillis();
+        NavigableMap<Long, Set<String>> expiredBuckets = expirationBuckets.headMap(bucketOf(now), false);
 
-        if (expirationTime != null && expirationTime < System.currentTimeMillis()) {
-            tokenBlacklist.remove(token);
+        Map.Entry<Long, Set<String>> bucket;
+        while ((bucket = expiredBuckets.pollFirstEntry()) != null) {
+            sweptCounter.increment(removeAll(bucket.getValue()));
+        }
+        revocationBloomFilter.rotate();
+    }
+
+    /**
+     * Add the token digest to the local blacklist and Bloom filter.
+     * Revocations that have already expired are ignored. At the size limit the soonest expiring entries
+     * are evicted from the map first; their Bloom filter bits are kept.
+     *
+     * @param digest         Hex-encoded SHA-256 digest of the token.
+     * @param expirationTime Token expiration time in milliseconds.
+     */
+    private void revokeLocally(String digest, long expirationTime) {
+        if (expirationTime < System.currentTimeMillis()) {
+            return;
+        }
+
+        while (tokenBlacklist.size() >= maximumSize && evictSoonestBucket()) {
+            log.warn("Blacklist size limit of " + maximumSize + " reached, soonest expiring entries evicted to the revocation backend");
+        }
+
+        tokenBlacklist.put(digest, expirationTime);
+        notRevoked.invalidate(digest);
+        revocationBloomFilter.put(TokenDigestUtil.fromHex(digest), expirationTime);
+        expirationBuckets.computeIfAbsent(bucketOf(expirationTime), bucket -> ConcurrentHashMap.newKeySet())
+                .add(digest);
+    }
+
+    /**
+     * Evict the bucket whose tokens expire first from the map.
+     * The tokens stay in the Bloom filter, so they are still found through the revocation backend.
+     *
+     * @return true - if a bucket was evicted, false - if there are no buckets.
+     */
+    private boolean evictSoonestBucket() {
+        Map.Entry<Long, Set<String>> bucket = expirationBuckets.pollFirstEntry();
+
+        if (bucket == null) {
             return false;
         }
-        return expirationTime != null;
+        evictedCounter.increment(removeAll(bucket.getValue()));
+        return true;
+    }
+
+    /**
+     * Remove the digests of a bucket from the blacklist.
+     *
+     * @param digests Token digests.
+     * @return Number of removed entries.
+     */
+    private int removeAll(Set<String> digests) {
+        int removed = 0;
+        for (String digest : digests) {
+            if (tokenBlacklist.remove(digest) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Get the bucket that holds tokens with the given expiration time.
+     * A token always belongs to a bucket that starts after its expiration time,
+     * so a bucket can be removed as soon as it starts.
+     *
+     * @param expirationTime Token expiration time in milliseconds.
+     * @return Bucket start time in milliseconds.
+     */
+    private long bucketOf(long expirationTime) {
+        return (expirationTime / bucketMillis + 1) * bucketMillis;
+    }
+
+    /**
+     * Expiration policy that keeps every entry until the token expiration time stored as its value.
+     */
+    private static class ExpirationTimeExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(value - System.currentTimeMillis(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -2,8 +2,13 @@ package org.example.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.CacheInvalidationBus;
+import org.example.cache.CacheInvalidationEvent;
+import org.example.cache.CatalogSnapshot;
+import org.example.cache.CatalogVersion;
 import org.example.dto.requestdto.CreatePlanRequestDTO;
 import org.example.dto.requestdto.UpdatePlanRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
 import org.example.dto.responsedto.PlanResponseDTO;
 import org.example.exception.ProviderNotFoundException;
 import org.example.mapper.PlanMapper;
@@ -11,10 +16,13 @@ import org.example.model.Plan;
 import org.example.repository.PlanRepository;
 import org.example.service.PlanService;
 import org.example.service.TariffService;
+import org.example.util.KeysetCursorUtil;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +46,12 @@ public class PlanServiceImpl implements PlanService {
 
     private final MessageSource messageSource;
 
+    private final CatalogVersion catalogVersion;
+
+    private final CatalogSnapshot catalogSnapshot;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
     /**
      * This method searches for a plan entity in the `planRepository` repository using the specified identifier.
      * If the entity is found, it is returned. If the entity is not found, an `EntityNotFoundException` exception is thrown.
@@ -53,7 +67,8 @@ public class PlanServiceImpl implements PlanService {
 
     /**
      * This method searches all plans in the `planRepository` repository, taking into account the pagination settings.
-     * The results are then converted into `PlanResponseDTO` objects using the `planMapper` mapper.
+     * The plans and their tariffs are selected straight into `PlanResponseDTO` objects in one joined query,
+     * so no entities are loaded into the persistence context.
      *
      * @param pageable Spring Data pagination option.
      * @return Page of `PlanResponseDTO` objects with information about plans.
@@ -61,23 +76,45 @@ public class PlanServiceImpl implements PlanService {
     @Override
     @Transactional(readOnly = true)
     public Page<PlanResponseDTO> getAllPlans(Pageable pageable) {
-        return planRepository.findAll(pageable)
-                .map(planMapper::toPlanResponseDTO);
+        return planRepository.findAllResponses(pageable);
+    }
+
+    /**
+     * This method reads a slice of plans sorted by name and ID,
+     * starting after the row the cursor points to.
+     * The slice is found with an index seek instead of `OFFSET`, and no count query is run,
+     * so the cost of a request does not depend on how deep the client has paged.
+     *
+     * @param encodedCursor Cursor returned with the previous slice, or `null` for the first slice.
+     * @param size          Slice size.
+     * @return Slice of `PlanResponseDTO` objects with the cursor of the next slice.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponseDTO<PlanResponseDTO> getPlanSlice(String encodedCursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        KeysetCursorUtil.Cursor cursor = encodedCursor == null ? null : KeysetCursorUtil.decode(encodedCursor);
+
+        Slice<Plan> slice = cursor == null
+                ? planRepository.findFirstSlice(pageable)
+                : planRepository.findSliceAfter(cursor.sortKey(), cursor.id(), pageable);
+
+        return KeysetCursorUtil.toResponse(slice.map(planMapper::toPlanResponseDTO),
+                PlanResponseDTO::getName,
+                PlanResponseDTO::getId);
     }
 
     /**
-     * This method searches the `planRepository` for a plan using the specified identifier.
-     * If a plan is found, it is converted to a `PlanResponseDTO` object using the `planMapper` mapper and returned.
+     * This method looks up a plan by the specified identifier in the in-memory `catalogSnapshot`.
+     * If a plan is found, its `PlanResponseDTO` is returned.
      * If the plan is not found, a `ProviderNotFoundException` is thrown.
      *
      * @param id Plan ID
      * @return A `PlanResponseDTO` object with plan information, if found, otherwise an exception is thrown.
      */
     @Override
-    @Transactional(readOnly = true)
     public PlanResponseDTO getPlanById(Integer id) {
-        return planRepository.findById(id)
-                .map(planMapper::toPlanResponseDTO)
+        return catalogSnapshot.findPlan(id)
                 .orElseThrow(() -> new ProviderNotFoundException(messageSource.getMessage("plan.error.not_found.by_id",
                         new Object[]{id},
                         LocaleContextHolder.getLocale())));
@@ -95,6 +132,9 @@ public class PlanServiceImpl implements PlanService {
     public PlanResponseDTO createPlan(CreatePlanRequestDTO createPlanRequestDTO) {
         Plan plan = buildPlan(createPlanRequestDTO);
 
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PLAN, null);
+
         return Optional.of(plan)
                 .map(planRepository::save)
                 .map(planMapper::toPlanResponseDTO)
@@ -119,6 +159,9 @@ public class PlanServiceImpl implements PlanService {
 
         setPlan(plan, updatePlanRequestDTO);
 
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PLAN, id);
+
         return Optional.of(plan)
                 .map(planRepository::save)
                 .map(planMapper::toPlanResponseDTO)
@@ -139,6 +182,8 @@ public class PlanServiceImpl implements PlanService {
                         LocaleContextHolder.getLocale())));
 
         planRepository.delete(plan);
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PLAN, id);
     }
 
     /**
@@ -2,21 +2,30 @@ package org.example.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.CacheInvalidationBus;
+import org.example.cache.CacheInvalidationEvent;
+import org.example.cache.CatalogSnapshot;
+import org.example.cache.CatalogVersion;
 import org.example.dto.requestdto.CreatePromotionRequestDTO;
 import org.example.dto.requestdto.UpdatePromotionRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
 import org.example.dto.responsedto.PromotionResponseDTO;
 import org.example.exception.ProviderNotFoundException;
 import org.example.mapper.PromotionMapper;
 import org.example.model.Promotion;
 import org.example.repository.PromotionRepository;
 import org.example.service.PromotionService;
+import org.example.util.KeysetCursorUtil;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 /**
@@ -36,6 +45,12 @@ public class PromotionServiceImpl implements PromotionService {
 
     private final MessageSource messageSource;
 
+    private final CatalogVersion catalogVersion;
+
+    private final CatalogSnapshot catalogSnapshot;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
     /**
      * This method looks up the promotion entity in the `promotionRepository` by the specified ID.
      * If the entity is found, it is returned. If the entity is not found, an `EntityNotFoundException` exception is thrown.
@@ -64,18 +79,45 @@ public class PromotionServiceImpl implements PromotionService {
     }
 
     /**
-     * This method retrieves the promotion entity by the specified ID from the database and converts it into a `PromotionResponseDTO` object,
-     * which is more convenient to pass in a response.
+     * This method reads a slice of promotions sorted by discount percentage and ID,
+     * starting after the row the cursor points to.
+     * The slice is found with an index seek instead of `OFFSET`, and no count query is run,
+     * so the cost of a request does not depend on how deep the client has paged.
+     *
+     * @param encodedCursor Cursor returned with the previous slice, or `null` for the first slice.
+     * @param size          Slice size.
+     * @return Slice of `PromotionResponseDTO` objects with the cursor of the next slice.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponseDTO<PromotionResponseDTO> getPromotionSlice(String encodedCursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        KeysetCursorUtil.Cursor cursor = encodedCursor == null ? null : KeysetCursorUtil.decode(encodedCursor);
+
+        if (cursor != null && cursor.sortKey() == null) {
+            throw new IllegalArgumentException("Invalid cursor: " + encodedCursor);
+        }
+
+        Slice<Promotion> slice = cursor == null
+                ? promotionRepository.findFirstSlice(pageable)
+                : promotionRepository.findSliceAfter(new BigDecimal(cursor.sortKey()), cursor.id(), pageable);
+
+        // Promotions without a discount are sorted as a zero discount, matching the repository queries.
+        return KeysetCursorUtil.toResponse(slice.map(promotionMapper::toPromotionResponseDTO),
+                promotion -> promotion.getDiscountPercentage() != null ? promotion.getDiscountPercentage() : BigDecimal.ZERO,
+                PromotionResponseDTO::getId);
+    }
+
+    /**
+     * This method looks up the promotion by the specified ID in the in-memory `catalogSnapshot` and returns its `PromotionResponseDTO` object.
      * If the promotion is not found, a `ProviderNotFoundException` is thrown.
      *
      * @param id Promotion ID
      * @return A `PromotionResponseDTO` object containing information about the promotion, or a `ProviderNotFoundException` if the promotion was not found.
      */
     @Override
-    @Transactional(readOnly = true)
     public PromotionResponseDTO getPromotionById(Integer id) {
-        return promotionRepository.findById(id)
-                .map(promotionMapper::toPromotionResponseDTO)
+        return catalogSnapshot.findPromotion(id)
                 .orElseThrow(() -> new ProviderNotFoundException(messageSource.getMessage(
                         "promotion.error.not_found.by_id",
                         new Object[]{id},
@@ -92,6 +134,9 @@ public class PromotionServiceImpl implements PromotionService {
     @Override
     @Transactional
     public PromotionResponseDTO createPromotion(CreatePromotionRequestDTO createPromotionRequestDTO) {
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PROMOTION, null);
+
         return Optional.of(createPromotionRequestDTO)
                 .map(promotionMapper::toPromotionForCreate)
                 .map(promotionRepository::save)
@@ -119,6 +164,9 @@ public class PromotionServiceImpl implements PromotionService {
 
         setPromotion(promotion, updatePromotionRequestDTO);
 
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PROMOTION, id);
+
         return Optional.of(promotion)
                 .map(promotionRepository::save)
                 .map(promotionMapper::toPromotionResponseDTO)
@@ -140,6 +188,8 @@ public class PromotionServiceImpl implements PromotionService {
                         LocaleContextHolder.getLocale())));
 
         promotionRepository.delete(promotion);
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PROMOTION, id);
     }
 
     /**
@@ -2,8 +2,13 @@ package org.example.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.CacheInvalidationBus;
+import org.example.cache.CacheInvalidationEvent;
+import org.example.cache.CatalogSnapshot;
+import org.example.cache.CatalogVersion;
 import org.example.dto.requestdto.CreatePromotionTariffRequestDTO;
 import org.example.dto.requestdto.UpdatePromotionTariffRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
 import org.example.dto.responsedto.PromotionTariffResponseDTO;
 import org.example.exception.ProviderNotFoundException;
 import org.example.mapper.PromotionTariffMapper;
@@ -12,10 +17,13 @@ import org.example.repository.PromotionTariffRepository;
 import org.example.service.PromotionService;
 import org.example.service.PromotionTariffService;
 import org.example.service.TariffService;
+import org.example.util.KeysetCursorUtil;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,9 +50,16 @@ public class PromotionTariffServiceImpl implements PromotionTariffService {
 
     private final MessageSource messageSource;
 
+    private final CatalogVersion catalogVersion;
+
+    private final CatalogSnapshot catalogSnapshot;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
     /**
      * This method searches for all promotional tariffs in the `promotionTariffRepository`, taking into account the pagination parameters.
-     * The results are then converted into `PromotionTariffResponseDTO` objects using the `promotionTariffMapper` mapper.
+     * The promotional tariffs, their tariffs and promotions are selected straight into `PromotionTariffResponseDTO` objects
+     * in one joined query, so no entities are loaded into the persistence context.
      *
      * @param pageable Spring Data pagination option.
      * @return Page of `PromotionTariffResponseDTO` objects with information about promotional tariffs.
@@ -52,22 +67,45 @@ public class PromotionTariffServiceImpl implements PromotionTariffService {
     @Override
     @Transactional(readOnly = true)
     public Page<PromotionTariffResponseDTO> getAllPromotionsTariffs(Pageable pageable) {
-        return promotionTariffRepository.findAll(pageable).map(promotionTariffMapper::toPromotionTariffResponseDTO);
+        return promotionTariffRepository.findAllResponses(pageable);
+    }
+
+    /**
+     * This method reads a slice of promotion tariffs sorted by ID,
+     * starting after the row the cursor points to.
+     * The slice is found with an index seek instead of `OFFSET`, and no count query is run,
+     * so the cost of a request does not depend on how deep the client has paged.
+     *
+     * @param encodedCursor Cursor returned with the previous slice, or `null` for the first slice.
+     * @param size          Slice size.
+     * @return Slice of `PromotionTariffResponseDTO` objects with the cursor of the next slice.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponseDTO<PromotionTariffResponseDTO> getPromotionTariffSlice(String encodedCursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        KeysetCursorUtil.Cursor cursor = encodedCursor == null ? null : KeysetCursorUtil.decode(encodedCursor);
+
+        Slice<PromotionTariff> slice = cursor == null
+                ? promotionTariffRepository.findFirstSlice(pageable)
+                : promotionTariffRepository.findSliceAfter(cursor.id(), pageable);
+
+        return KeysetCursorUtil.toResponse(slice.map(promotionTariffMapper::toPromotionTariffResponseDTO),
+                null,
+                PromotionTariffResponseDTO::getId);
     }
 
     /**
-     * This method searches for a promotional tariff in the `promotionTariffRepository` using the specified identifier.
-     * If a promotional tariff is found, it is converted to a `PromotionTariffResponseDTO` object using the `promotionTariffMapper` mapper and returned.
+     * This method searches for a promotional tariff in the in-memory `catalogSnapshot` using the specified identifier.
+     * If a promotional tariff is found, its `PromotionTariffResponseDTO` object is returned.
      * If a promotional rate is not found, a `ProviderNotFoundException` exception is thrown.
      *
      * @param id PromotionTariff ID
      * @return A `PromotionTariffResponseDTO` object with information about the promotional tariff, if found, otherwise an exception is thrown.
      */
     @Override
-    @Transactional(readOnly = true)
     public PromotionTariffResponseDTO getPromotionTariffById(Integer id) {
-        return promotionTariffRepository.findById(id)
-                .map(promotionTariffMapper::toPromotionTariffResponseDTO)
+        return catalogSnapshot.findPromotionTariff(id)
                 .orElseThrow(() -> new ProviderNotFoundException(messageSource.getMessage(
                         "promotion.error.tariff_not_found.by_id",
                         new Object[]{id},
@@ -87,6 +125,9 @@ public class PromotionTariffServiceImpl implements PromotionTariffService {
 
         PromotionTariff promotionTariff = buildPromotionTariff(createPromotionTariffRequestDTO);
 
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PROMOTION_TARIFF, null);
+
         return Optional.of(promotionTariff)
                 .map(promotionTariffRepository::save)
                 .map(promotionTariffMapper::toPromotionTariffResponseDTO)
@@ -115,6 +156,9 @@ public class PromotionTariffServiceImpl implements PromotionTariffService {
 
         setPromotionTariff(promotionTariff, updatePromotionTariffRequestDTO);
 
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PROMOTION_TARIFF, id);
+
         return Optional.of(promotionTariff)
                 .map(promotionTariffRepository::save)
                 .map(promotionTariffMapper::toPromotionTariffResponseDTO)
@@ -136,6 +180,8 @@ public class PromotionTariffServiceImpl implements PromotionTariffService {
                         LocaleContextHolder.getLocale())));
 
         promotionTariffRepository.delete(promotionTariff);
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PROMOTION_TARIFF, id);
     }
 
     /**
@@ -2,6 +2,8 @@ package org.example.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.CacheInvalidationBus;
+import org.example.cache.CacheInvalidationEvent;
 import org.example.dto.requestdto.RoleRequestDTO;
 import org.example.dto.responsedto.RoleResponseDTO;
 import org.example.exception.ProviderNotFoundException;
@@ -33,6 +35,8 @@ public class RoleServiceImpl implements RoleService {
 
     private final MessageSource messageSource;
 
+    private final CacheInvalidationBus cacheInvalidationBus;
+
     /**
      * This method looks up the role entity in the `roleRepository` repository using the specified identifier.
      * If the entity is found, it is returned. If the entity is not found, an `EntityNotFoundException` exception is thrown.
@@ -90,6 +94,8 @@ public class RoleServiceImpl implements RoleService {
     @Override
     @Transactional
     public RoleResponseDTO createRole(RoleRequestDTO roleRequestDTO) {
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.ROLE, null);
+
         return Optional.of(roleRequestDTO)
                 .map(roleMapper::toRoleForCreate)
                 .map(roleRepository::save)
@@ -115,6 +121,7 @@ public class RoleServiceImpl implements RoleService {
                         LocaleContextHolder.getLocale())));
 
         role.setName(roleRequestDTO.getName());
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.ROLE, id);
 
         return Optional.of(role)
                 .map(roleRepository::save)
@@ -137,5 +144,6 @@ public class RoleServiceImpl implements RoleService {
                         LocaleContextHolder.getLocale())));
 
         roleRepository.delete(role);
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.ROLE, id);
     }
 }
@@ -2,6 +2,8 @@ package org.example.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.CacheInvalidationBus;
+import org.example.cache.CacheInvalidationEvent;
 import org.example.dto.requestdto.StatusRequestDTO;
 import org.example.dto.responsedto.StatusResponseDTO;
 import org.example.exception.ProviderNotFoundException;
@@ -33,6 +35,8 @@ public class StatusServiceImpl implements StatusService {
 
     private final MessageSource messageSource;
 
+    private final CacheInvalidationBus cacheInvalidationBus;
+
     /**
      * This method searches for a status entity in the `statusRepository` repository using the specified identifier.
      * If the entity is found, it is returned. If the entity is not found, an `EntityNotFoundException` exception is thrown.
@@ -91,6 +95,8 @@ public class StatusServiceImpl implements StatusService {
     @Override
     @Transactional
     public StatusResponseDTO createStatus(StatusRequestDTO statusRequestDTO) {
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.STATUS, null);
+
         return Optional.of(statusRequestDTO)
                 .map(statusMapper::toStatusForCreate)
                 .map(statusRepository::save)
@@ -116,6 +122,7 @@ public class StatusServiceImpl implements StatusService {
                         LocaleContextHolder.getLocale())));
 
         status.setName(statusRequestDTO.getName());
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.STATUS, id);
 
         return Optional.of(status)
                 .map(statusRepository::save)
@@ -138,6 +145,7 @@ public class StatusServiceImpl implements StatusService {
                         LocaleContextHolder.getLocale())));
 
         statusRepository.delete(status);
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.STATUS, id);
     }
 
     /**
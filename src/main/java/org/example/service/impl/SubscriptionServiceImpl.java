@@ -7,6 +7,10 @@ import org.example.dto.requestdto.UpdateSubscriptionRequestDTO;
 import org.example.dto.responsedto.SubscriptionResponseDTO;
 import org.example.exception.ProviderConflictException;
 import org.example.exception.ProviderNotFoundException;
+import org.example.export.CsvColumn;
+import org.example.export.CsvExporter;
+import org.example.export.ExportFormat;
+import org.example.export.NdjsonExporter;
 import org.example.mapper.SubscriptionMapper;
 import org.example.model.Plan;
 import org.example.model.Subscription;
@@ -22,8 +26,10 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service for working with subscriptions.
@@ -36,6 +42,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class SubscriptionServiceImpl implements SubscriptionService {
 
+    private static final List<CsvColumn<SubscriptionResponseDTO>> CSV_COLUMNS = List.of(
+            new CsvColumn<>("id", SubscriptionResponseDTO::getId),
+            new CsvColumn<>("status", SubscriptionResponseDTO::getStatus),
+            new CsvColumn<>("user_id", subscription -> subscription.getUser() != null ? subscription.getUser().getId() : null),
+            new CsvColumn<>("username", subscription -> subscription.getUser() != null ? subscription.getUser().getUsername() : null),
+            new CsvColumn<>("plan_id", subscription -> subscription.getPlan() != null ? subscription.getPlan().getId() : null),
+            new CsvColumn<>("plan_name", subscription -> subscription.getPlan() != null ? subscription.getPlan().getName() : null));
+
     private final SubscriptionRepository subscriptionRepository;
 
     private final SubscriptionMapper subscriptionMapper;
@@ -48,22 +62,47 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
     private final SubscriptionValidator subscriptionValidator;
 
+    private final NdjsonExporter ndjsonExporter;
+
+    private final CsvExporter csvExporter;
+
     /**
      * This method fetches all subscriptions from the `subscriptionRepository` and
      * transforms them into a list of `SubscriptionResponseDTO` objects using the
-     * `subscriptionMapper`.
+     * `subscriptionMapper`. The users, roles, statuses, plans and tariffs are fetched in the same query,
+     * so the mapping does not trigger a query per subscription.
      *
      * @return A list of `SubscriptionResponseDTO` objects representing all subscriptions.
      */
     @Override
     @Transactional(readOnly = true)
     public List<SubscriptionResponseDTO> getAllSubscriptions() {
-        return subscriptionRepository.findAll()
+        return subscriptionRepository.findAllWithDetailsBy()
                 .stream()
                 .map(subscriptionMapper::toSubscriptionResponseDTO)
                 .toList();
     }
 
+    /**
+     * This method streams all subscriptions from the database through a cursor and writes them to the output stream
+     * as newline-delimited JSON, one `SubscriptionResponseDTO` per line, or as CSV with the user and plan
+     * reduced to their IDs and names, without loading the whole list into memory.
+     *
+     * @param format       Export format.
+     * @param outputStream Output stream to write to.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportSubscriptions(ExportFormat format, OutputStream outputStream) {
+        try (Stream<Subscription> subscriptions = subscriptionRepository.streamAll()) {
+            long count = format == ExportFormat.CSV
+                    ? csvExporter.export(subscriptions, subscriptionMapper::toSubscriptionResponseDTO, CSV_COLUMNS, outputStream)
+                    : ndjsonExporter.export(subscriptions, subscriptionMapper::toSubscriptionResponseDTO, outputStream);
+
+            log.info("Exported " + count + " subscriptions");
+        }
+    }
+
     /**
      * This method searches for a subscription in the `subscriptionRepository` using the provided ID.
      * If found, the subscription is mapped to a `SubscriptionResponseDTO` and returned.
@@ -75,7 +114,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
     @Override
     @Transactional(readOnly = true)
     public SubscriptionResponseDTO getSubscriptionById(Integer id) {
-        return subscriptionRepository.findById(id)
+        return subscriptionRepository.findWithDetailsById(id)
                 .map(subscriptionMapper::toSubscriptionResponseDTO)
                 .orElseThrow(() -> new ProviderNotFoundException(messageSource.getMessage(
                         "subscription.error.not_found.by_id",
@@ -94,7 +133,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
     @Override
     @Transactional(readOnly = true)
     public SubscriptionResponseDTO getSubscriptionByClientIdAndStatus(Integer id) {
-        return subscriptionRepository.findByUserIdAndStatus(id, ProviderConstantUtil.SUBSCRIPTION_STATUS_SIGNED)
+        return subscriptionRepository.findWithDetailsByUserIdAndStatus(id, ProviderConstantUtil.SUBSCRIPTION_STATUS_SIGNED)
                 .map(subscriptionMapper::toSubscriptionResponseDTO)
                 .orElseThrow();
     }
@@ -132,7 +171,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
     public SubscriptionResponseDTO updateSubscription(Integer id,
                                                       UpdateSubscriptionRequestDTO updateSubscriptionRequestDTO) {
 
-        Subscription subscription = subscriptionRepository.findById(id)
+        Subscription subscription = subscriptionRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ProviderNotFoundException(messageSource.getMessage(
                         "subscription.error.not_found.by_id",
                         new Object[]{id},
@@ -2,21 +2,35 @@ package org.example.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.CacheInvalidationBus;
+import org.example.cache.CacheInvalidationEvent;
+import org.example.cache.CatalogSnapshot;
+import org.example.cache.CatalogVersion;
+import org.example.cache.SecondLevelCacheEvictor;
 import org.example.dto.requestdto.CreateTariffRequestDTO;
 import org.example.dto.requestdto.UpdateTariffRequestDTO;
+import org.example.dto.responsedto.CursorSliceResponseDTO;
+import org.example.dto.responsedto.EffectivePriceResponseDTO;
 import org.example.dto.responsedto.TariffResponseDTO;
 import org.example.exception.ProviderNotFoundException;
 import org.example.mapper.TariffMapper;
+import org.example.model.Plan;
 import org.example.model.Tariff;
+import org.example.pricing.EffectivePriceEngine;
 import org.example.repository.TariffRepository;
 import org.example.service.TariffService;
+import org.example.util.KeysetCursorUtil;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -34,6 +48,16 @@ public class TariffServiceImpl implements TariffService {
 
     private final MessageSource messageSource;
 
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    private final CatalogVersion catalogVersion;
+
+    private final CatalogSnapshot catalogSnapshot;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final EffectivePriceEngine effectivePriceEngine;
+
     /**
      * This method fetches a tariff entity from the database using the provided ID.
      *
@@ -48,7 +72,8 @@ public class TariffServiceImpl implements TariffService {
 
     /**
      * This method fetches all tariffs from the database, applying the specified pagination parameters.
-     * The results are then mapped to `TariffResponseDTO` objects for response.
+     * The tariffs are selected straight into `TariffResponseDTO` objects, so no entities are loaded
+     * into the persistence context.
      *
      * @param pageable The pagination parameters.
      * @return A page of `TariffResponseDTO` objects representing all tariffs.
@@ -56,28 +81,62 @@ public class TariffServiceImpl implements TariffService {
     @Override
     @Transactional(readOnly = true)
     public Page<TariffResponseDTO> getAllTariffs(Pageable pageable) {
-        return tariffRepository.findAll(pageable)
-                .map(tariffMapper::toTariffResponseDTO);
+        return tariffRepository.findAllResponses(pageable);
+    }
+
+    /**
+     * This method reads a slice of tariffs sorted by name and ID,
+     * starting after the row the cursor points to.
+     * The slice is found with an index seek instead of `OFFSET`, and no count query is run,
+     * so the cost of a request does not depend on how deep the client has paged.
+     *
+     * @param encodedCursor Cursor returned with the previous slice, or `null` for the first slice.
+     * @param size          Slice size.
+     * @return Slice of `TariffResponseDTO` objects with the cursor of the next slice.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponseDTO<TariffResponseDTO> getTariffSlice(String encodedCursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        KeysetCursorUtil.Cursor cursor = encodedCursor == null ? null : KeysetCursorUtil.decode(encodedCursor);
+
+        Slice<Tariff> slice = cursor == null
+                ? tariffRepository.findFirstSlice(pageable)
+                : tariffRepository.findSliceAfter(cursor.sortKey(), cursor.id(), pageable);
+
+        return KeysetCursorUtil.toResponse(slice.map(tariffMapper::toTariffResponseDTO),
+                TariffResponseDTO::getName,
+                TariffResponseDTO::getId);
     }
 
     /**
-     * This method fetches a tariff entity from the database using the provided ID and maps it to a
+     * This method looks up a tariff by the provided ID in the in-memory `catalogSnapshot` and returns its
      * `TariffResponseDTO`. If the tariff is not found, a `ProviderNotFoundException` is thrown.
      *
      * @param id Tariff ID
      * @return The tariff as a response DTO.
      */
     @Override
-    @Transactional(readOnly = true)
     public TariffResponseDTO getTariffById(Integer id) {
-        return tariffRepository.findById(id)
-                .map(tariffMapper::toTariffResponseDTO)
+        return catalogSnapshot.findTariff(id)
                 .orElseThrow(() -> new ProviderNotFoundException(messageSource.getMessage(
                         "tariff.error.not_found.by_id",
                         new Object[]{id},
                         LocaleContextHolder.getLocale())));
     }
 
+    /**
+     * This method resolves the price of every tariff on the given date, discounted by the best promotion
+     * of the tariff active on that date, using the `effectivePriceEngine`.
+     *
+     * @param date The date the prices apply to.
+     * @return A list of effective prices ordered by tariff ID.
+     */
+    @Override
+    public List<EffectivePriceResponseDTO> getEffectivePrices(LocalDate date) {
+        return effectivePriceEngine.getEffectivePrices(date);
+    }
+
     /**
      * This method constructs a new `Tariff` entity from the provided `CreateTariffRequestDTO`,
      * persists it to the database, and returns a `TariffResponseDTO` representing the created tariff.
@@ -88,6 +147,9 @@ public class TariffServiceImpl implements TariffService {
     @Override
     @Transactional
     public TariffResponseDTO createTariff(CreateTariffRequestDTO tariffRequestDTO) {
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.TARIFF, null);
+
         return Optional.of(tariffRequestDTO)
                 .map(tariffMapper::toTariffForCreate)
                 .map(tariffRepository::save)
@@ -114,6 +176,9 @@ public class TariffServiceImpl implements TariffService {
 
         setTariff(tariff, updateTariffRequestDTO);
 
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.TARIFF, id);
+
         return Optional.of(tariff)
                 .map(tariffRepository::save)
                 .map(tariffMapper::toTariffResponseDTO)
@@ -122,6 +187,7 @@ public class TariffServiceImpl implements TariffService {
 
     /**
      * This method deletes the tariff with the specified ID from the database.
+     * The database deletes the plans of the tariff by cascade, so cached plans are evicted as well.
      *
      * @param id Tariff ID
      */
@@ -135,6 +201,10 @@ public class TariffServiceImpl implements TariffService {
                         LocaleContextHolder.getLocale())));
 
         tariffRepository.delete(tariff);
+        secondLevelCacheEvictor.evict(Plan.class);
+        catalogVersion.bump();
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.TARIFF, id);
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.PLAN, null);
     }
 
     /**
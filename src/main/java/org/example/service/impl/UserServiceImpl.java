@@ -2,6 +2,10 @@ package org.example.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.CacheInvalidationBus;
+import org.example.cache.CacheInvalidationEvent;
+import org.example.cache.PrincipalCache;
+import org.example.cache.TokenVersionRegistry;
 import org.example.dto.requestdto.CreateUserRequestDTO;
 import org.example.dto.requestdto.PasswordChangeRequestDTO;
 import org.example.dto.requestdto.ProfileUpdateRequestDTO;
@@ -11,6 +15,10 @@ import org.example.exception.ProviderAccessDeniedException;
 import org.example.exception.ProviderConflictException;
 import org.example.exception.ProviderNotFoundException;
 import org.example.exception.ProviderTokenException;
+import org.example.export.CsvColumn;
+import org.example.export.CsvExporter;
+import org.example.export.ExportFormat;
+import org.example.export.NdjsonExporter;
 import org.example.mapper.UserMapper;
 import org.example.model.EmailToken;
 import org.example.model.Status;
@@ -28,9 +36,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service for working with users.
@@ -38,12 +50,22 @@ import java.util.Optional;
  * It interacts with the user repository (`UserRepository`), validator of requests for creating/updating users (`UserRequestDTOValidator`),
  * service for working with roles (`RoleService`), service for working with statuses (`StatusService`), password encoder (` PasswordEncoder`),
  * a service for sending mail (`EmailService`) and a mapper (`UserMapper`) for converting objects.
+ * Every change to an existing user evicts it from the principal cache (`PrincipalCache`)
+ * and bumps its token version (`TokenVersionRegistry`), revoking all of its outstanding tokens.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final List<CsvColumn<UserResponseDTO>> CSV_COLUMNS = List.of(
+            new CsvColumn<>("id", UserResponseDTO::getId),
+            new CsvColumn<>("username", UserResponseDTO::getUsername),
+            new CsvColumn<>("email", UserResponseDTO::getEmail),
+            new CsvColumn<>("phone", UserResponseDTO::getPhone),
+            new CsvColumn<>("role", user -> user.getRole() != null ? user.getRole().getName() : null),
+            new CsvColumn<>("status", user -> user.getStatus() != null ? user.getStatus().getName() : null));
+
     private final UserRepository userRepository;
 
     private final PasswordEncoder passwordEncoder;
@@ -60,6 +82,16 @@ public class UserServiceImpl implements UserService {
 
     private final MessageSource messageSource;
 
+    private final PrincipalCache principalCache;
+
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    private final NdjsonExporter ndjsonExporter;
+
+    private final CsvExporter csvExporter;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
     /**
      * This method persists the provided `user` entity to the database.
      *
@@ -134,6 +166,26 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll().stream().map(userMapper::toUserResponseDTO).toList();
     }
 
+    /**
+     * This method streams all users from the database through a cursor and writes them to the output stream
+     * as newline-delimited JSON, one `UserResponseDTO` per line, or as CSV with the role and status names,
+     * without loading the whole list into memory.
+     *
+     * @param format       Export format.
+     * @param outputStream Output stream to write to.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(ExportFormat format, OutputStream outputStream) {
+        try (Stream<User> users = userRepository.streamAll()) {
+            long count = format == ExportFormat.CSV
+                    ? csvExporter.export(users, userMapper::toUserResponseDTO, CSV_COLUMNS, outputStream)
+                    : ndjsonExporter.export(users, userMapper::toUserResponseDTO, outputStream);
+
+            log.info("Exported " + count + " users");
+        }
+    }
+
     /**
      * This method fetches a user entity from the database using the provided ID and maps it to a `UserResponseDTO`.
      * If the user is not found, an exception is thrown.
@@ -217,6 +269,9 @@ public class UserServiceImpl implements UserService {
                     LocaleContextHolder.getLocale()));
         }
 
+        principalCache.evict(user.getUsername(), userRequestDTO.getUsername());
+        tokenVersionRegistry.bump(user);
+        publishUserChange(user.getId(), user.getTokenVersion(), user.getUsername(), userRequestDTO.getUsername());
         setUser(user, userRequestDTO);
 
         return Optional.of(user).map(userRepository::save).map(userMapper::toUserResponseDTO).orElseThrow();
@@ -250,7 +305,34 @@ public class UserServiceImpl implements UserService {
         }
 
         user.setPassword(passwordEncoder.encode(passwordChangeRequestDTO.getNewPassword()));
+        tokenVersionRegistry.bump(user);
+        userRepository.save(user);
+        principalCache.evict(user.getUsername());
+        publishUserChange(user.getId(), user.getTokenVersion(), user.getUsername());
+    }
+
+    /**
+     * This method re-encodes the user's password with the current password encoder settings.
+     * It is called after a successful login when the stored hash uses an outdated algorithm or strength,
+     * so the hash is upgraded without forcing a password reset. Outstanding tokens stay valid.
+     *
+     * @param id          The ID of the User whose password hash needs to be upgraded.
+     * @param rawPassword The password that has just been verified.
+     */
+    @Override
+    @Transactional
+    public void upgradePasswordHash(Integer id, String rawPassword) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ProviderNotFoundException(messageSource.getMessage("user.error.not_found.by_id",
+                        new Object[]{id},
+                        LocaleContextHolder.getLocale())));
+
+        user.setPassword(passwordEncoder.encode(rawPassword));
         userRepository.save(user);
+        principalCache.evict(user.getUsername());
+        publishUserChange(user.getId(), user.getTokenVersion(), user.getUsername());
+
+        log.info("Password hash upgraded for User with ID: " + id);
     }
 
     /**
@@ -312,6 +394,9 @@ public class UserServiceImpl implements UserService {
                         LocaleContextHolder.getLocale())));
 
         userRepository.delete(user);
+        principalCache.evict(user.getUsername());
+        publishUserChange(user.getId(), null, user.getUsername());
+        tokenVersionRegistry.remove(user.getId());
     }
 
     /**
@@ -336,7 +421,10 @@ public class UserServiceImpl implements UserService {
                         LocaleContextHolder.getLocale())));
 
         user.setStatus(status);
+        tokenVersionRegistry.bump(user);
         userRepository.save(user);
+        principalCache.evict(user.getUsername());
+        publishUserChange(user.getId(), user.getTokenVersion(), user.getUsername());
     }
 
     /**
@@ -358,6 +446,9 @@ public class UserServiceImpl implements UserService {
         }
 
         User user = emailToken.getUser();
+        principalCache.evict(user.getUsername(), emailToken.getUsername());
+        tokenVersionRegistry.bump(user);
+        publishUserChange(user.getId(), user.getTokenVersion(), user.getUsername(), emailToken.getUsername());
 
         user.setEmail(emailToken.getEmail());
         user.setUsername(emailToken.getUsername());
@@ -403,4 +494,20 @@ public class UserServiceImpl implements UserService {
             user.setPassword(passwordEncoder.encode(userRequestDTO.getPassword()));
         }
     }
+
+    /**
+     * This private helper method publishes the change of the user to the other application instances,
+     * so that they evict the cached principals and apply the token version of the user.
+     *
+     * @param id           The ID of the changed user.
+     * @param tokenVersion The token version of the user after the change, or `null` if the user was deleted.
+     * @param usernames    The usernames whose principals must be evicted, `null` values are ignored.
+     */
+    private void publishUserChange(Integer id, Integer tokenVersion, String... usernames) {
+        Arrays.stream(usernames)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(username -> cacheInvalidationBus.publish(CacheInvalidationEvent.Type.USER, username, tokenVersion));
+        cacheInvalidationBus.publish(CacheInvalidationEvent.Type.TOKEN_VERSION, id, tokenVersion);
+    }
 }
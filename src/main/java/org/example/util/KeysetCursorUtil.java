@@ -0,0 +1,84 @@
+package org.example.util;
+
+import org.example.dto.responsedto.CursorSliceResponseDTO;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Utility class for the opaque cursors of keyset (seek) pagination.
+ * A cursor holds the sort key and the ID of the last row of a slice, encoded as URL-safe Base64,
+ * so the next slice can be read with `WHERE (sort_key, id) > (?, ?)` instead of skipping rows with `OFFSET`.
+ */
+public class KeysetCursorUtil {
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Decoded cursor.
+     *
+     * @param sortKey Sort key of the last row, or `null` if the rows are sorted by ID only.
+     * @param id      ID of the last row.
+     */
+    public record Cursor(String sortKey, int id) {
+    }
+
+    /**
+     * Encode the sort key and ID of a row into a cursor.
+     *
+     * @param sortKey Sort key of the row, or `null` if the rows are sorted by ID only.
+     * @param id      ID of the row.
+     * @return Opaque cursor.
+     */
+    public static String encode(Object sortKey, int id) {
+        String value = sortKey == null ? String.valueOf(id) : id + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode(Object, int)}.
+     *
+     * @param cursor Opaque cursor.
+     * @return Decoded cursor.
+     * @throws IllegalArgumentException If the cursor is malformed.
+     */
+    public static Cursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return new Cursor(null, Integer.parseInt(value));
+            }
+            return new Cursor(value.substring(separator + 1), Integer.parseInt(value.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Build the response for a slice, with the cursor of its last row if there is a next slice.
+     *
+     * @param slice   Slice of rows.
+     * @param sortKey Function that extracts the sort key of a row, or `null` if the rows are sorted by ID only.
+     * @param id      Function that extracts the ID of a row.
+     * @param <T>     Row type.
+     * @return Slice response.
+     */
+    public static <T> CursorSliceResponseDTO<T> toResponse(Slice<T> slice,
+                                                           Function<T, Object> sortKey,
+                                                           ToIntFunction<T> id) {
+        List<T> content = slice.getContent();
+        String nextCursor = null;
+
+        if (slice.hasNext() && !content.isEmpty()) {
+            T last = content.get(content.size() - 1);
+            nextCursor = encode(sortKey == null ? null : sortKey.apply(last), id.applyAsInt(last));
+        }
+
+        return new CursorSliceResponseDTO<>(content, slice.getSize(), slice.hasNext(), nextCursor);
+    }
+}
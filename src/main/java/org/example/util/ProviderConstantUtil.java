@@ -13,4 +13,14 @@ public class ProviderConstantUtil {
     public static final int TIME_OUT = 1;
     public static final String SUBSCRIPTION_STATUS_SIGNED = "signed";
     public static final String SUBSCRIPTION_STATUS_NOT_SIGNED = "not signed";
+    public static final String JWT_CLAIM_AUTHORITIES = "authorities";
+    public static final String JWT_CLAIM_USER_ID = "user_id";
+    public static final String JWT_CLAIM_ROLE_ID = "role_id";
+    public static final String JWT_CLAIM_ROLE = "role";
+    public static final String JWT_CLAIM_STATUS_ID = "status_id";
+    public static final String JWT_CLAIM_STATUS = "status";
+    public static final String JWT_CLAIM_TOKEN_VERSION = "token_version";
+    public static final String AUTHENTICATED_USER_ATTRIBUTE = "org.example.authenticatedUser";
+    public static final int MAX_SLICE_SIZE = 100;
+    public static final int EXPORT_FETCH_SIZE = 500;
 }
@@ -0,0 +1,54 @@
+package org.example.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Utility class for computing fixed-size digests of JWT tokens.
+ */
+public class TokenDigestUtil {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * Compute the SHA-256 digest of the token.
+     * @param token JWT token.
+     * @return Raw digest bytes.
+     */
+    public static byte[] digestBytes(String token) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported", e);
+        }
+    }
+
+    /**
+     * Compute the SHA-256 digest of the token as a hex string.
+     * @param token JWT token.
+     * @return Hex-encoded digest, always 64 characters long.
+     */
+    public static String digest(String token) {
+        return toHex(digestBytes(token));
+    }
+
+    /**
+     * Encode raw digest bytes as a hex string.
+     * @param digestBytes Raw digest bytes.
+     * @return Hex-encoded digest.
+     */
+    public static String toHex(byte[] digestBytes) {
+        return HexFormat.of().formatHex(digestBytes);
+    }
+
+    /**
+     * Decode a hex string into raw digest bytes.
+     * @param digest Hex-encoded digest.
+     * @return Raw digest bytes.
+     */
+    public static byte[] fromHex(String digest) {
+        return HexFormat.of().parseHex(digest);
+    }
+}
@@ -5,14 +5,20 @@ import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.annotation.customannotation.ValidPassword;
+import org.example.cache.PrincipalCache;
 import org.example.dto.requestdto.AuthenticationRequestDTO;
 import org.example.model.User;
 import org.example.repository.UserRepository;
+import org.example.util.ProviderConstantUtil;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
- * Password validator for authentication
+ * Password validator for authentication.
+ * This is the only place where the password of a login request is checked: the verified user is stored
+ * in the request attributes, so `AuthenticationService` does not load the user or run BCrypt again.
  */
 @Slf4j
 @Component
@@ -21,15 +27,23 @@ public class AuthPasswordValidator implements ConstraintValidator<ValidPassword,
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Override
     public boolean isValid(AuthenticationRequestDTO request, ConstraintValidatorContext context) {
-        User user = userRepository.findByUsername(request.getUsername()).orElseThrow();
+        User user = principalCache.get(request.getUsername(), userRepository::findByUsername).orElseThrow();
 
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             log.info("Invalid password");
             return false;
         }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ProviderConstantUtil.AUTHENTICATED_USER_ATTRIBUTE,
+                    user,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
         return true;
     }
 }
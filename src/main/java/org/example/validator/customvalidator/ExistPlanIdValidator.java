@@ -5,7 +5,7 @@ import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.annotation.customannotation.ExistPlanId;
-import org.example.repository.PlanRepository;
+import org.example.cache.CatalogSnapshot;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,11 +16,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ExistPlanIdValidator implements ConstraintValidator<ExistPlanId, Integer> {
 
-    private final PlanRepository planRepository;
+    private final CatalogSnapshot catalogSnapshot;
 
     @Override
     public boolean isValid(Integer planId, ConstraintValidatorContext context) {
-        if (planId != null && !planRepository.existsById(planId)) {
+        if (planId != null && !catalogSnapshot.existsPlan(planId)) {
             log.info("Plan ID: " + planId + " not found");
             return false;
         }
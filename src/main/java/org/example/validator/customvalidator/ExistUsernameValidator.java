@@ -5,11 +5,14 @@ import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.annotation.customannotation.ValidUsername;
+import org.example.cache.PrincipalCache;
 import org.example.repository.UserRepository;
 import org.springframework.stereotype.Component;
 
 /**
  * Username validator for authentication.
+ * The user is loaded through the `PrincipalCache`, so the password check of the same login request
+ * finds it there instead of querying the database again.
  */
 @Slf4j
 @Component
@@ -18,9 +21,11 @@ public class ExistUsernameValidator implements ConstraintValidator<ValidUsername
 
     private final UserRepository userRepository;
 
+    private final PrincipalCache principalCache;
+
     @Override
     public boolean isValid(String username, ConstraintValidatorContext context) {
-        if (!userRepository.existsByUsername(username)) {
+        if (principalCache.get(username, userRepository::findByUsername).isEmpty()) {
             log.info("Invalid Username: " + username);
             return false;
         }
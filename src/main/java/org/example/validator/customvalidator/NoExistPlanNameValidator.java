@@ -5,7 +5,7 @@ import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.annotation.customannotation.NoExistPlanName;
-import org.example.repository.PlanRepository;
+import org.example.cache.CatalogSnapshot;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,11 +16,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class NoExistPlanNameValidator implements ConstraintValidator<NoExistPlanName, String> {
 
-    private final PlanRepository planRepository;
+    private final CatalogSnapshot catalogSnapshot;
 
     @Override
     public boolean isValid(String planName, ConstraintValidatorContext context) {
-        if (planName != null && planRepository.existsByName(planName)) {
+        if (planName != null && catalogSnapshot.existsPlanName(planName)) {
             log.info("A plan with the same name: " + planName + " already exists");
             return false;
         }
@@ -5,7 +5,7 @@ import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.annotation.customannotation.NoExistTariffName;
-import org.example.repository.TariffRepository;
+import org.example.cache.CatalogSnapshot;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,11 +16,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class NoExistTariffNameValidator implements ConstraintValidator<NoExistTariffName, String> {
 
-    private final TariffRepository tariffRepository;
+    private final CatalogSnapshot catalogSnapshot;
 
     @Override
     public boolean isValid(String tariffName, ConstraintValidatorContext context) {
-        if (tariffName != null && tariffRepository.existsByName(tariffName)) {
+        if (tariffName != null && catalogSnapshot.existsTariffName(tariffName)) {
             log.info("A tariff with the same name: " + tariffName + " already exists");
             return false;
         }
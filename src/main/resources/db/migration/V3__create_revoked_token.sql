@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS revoked_token
+(
+    token_digest CHAR(64) PRIMARY KEY,
+    expires_at   TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires_at ON revoked_token (expires_at);
@@ -0,0 +1,30 @@
+-- Hibernate allocates IDs in blocks of 50 from each sequence (pooled optimizer),
+-- so the sequences must be incremented by the same allocation size.
+-- Each sequence is moved past the current maximum ID, so the first block does not overlap existing rows.
+
+ALTER SEQUENCE email_token_email_token_id_seq INCREMENT BY 50;
+SELECT setval('email_token_email_token_id_seq', COALESCE((SELECT MAX(email_token_id) FROM "email_token"), 0) + 1);
+
+ALTER SEQUENCE plan_plan_id_seq INCREMENT BY 50;
+SELECT setval('plan_plan_id_seq', COALESCE((SELECT MAX(plan_id) FROM "plan"), 0) + 1);
+
+ALTER SEQUENCE promotion_promotion_id_seq INCREMENT BY 50;
+SELECT setval('promotion_promotion_id_seq', COALESCE((SELECT MAX(promotion_id) FROM "promotion"), 0) + 1);
+
+ALTER SEQUENCE promotions_tariffs_id_seq INCREMENT BY 50;
+SELECT setval('promotions_tariffs_id_seq', COALESCE((SELECT MAX(id) FROM "promotions_tariffs"), 0) + 1);
+
+ALTER SEQUENCE role_role_id_seq INCREMENT BY 50;
+SELECT setval('role_role_id_seq', COALESCE((SELECT MAX(role_id) FROM "role"), 0) + 1);
+
+ALTER SEQUENCE status_status_id_seq INCREMENT BY 50;
+SELECT setval('status_status_id_seq', COALESCE((SELECT MAX(status_id) FROM "status"), 0) + 1);
+
+ALTER SEQUENCE subscription_subscription_id_seq INCREMENT BY 50;
+SELECT setval('subscription_subscription_id_seq', COALESCE((SELECT MAX(subscription_id) FROM "subscription"), 0) + 1);
+
+ALTER SEQUENCE tariff_tariff_id_seq INCREMENT BY 50;
+SELECT setval('tariff_tariff_id_seq', COALESCE((SELECT MAX(tariff_id) FROM "tariff"), 0) + 1);
+
+ALTER SEQUENCE user_user_id_seq INCREMENT BY 50;
+SELECT setval('user_user_id_seq', COALESCE((SELECT MAX(user_id) FROM "user"), 0) + 1);
@@ -0,0 +1,16 @@
+-- Indexes are built CONCURRENTLY, so the tables stay writable while they are created.
+-- Flyway runs this migration outside a transaction because every statement is CONCURRENTLY.
+-- It requires spring.flyway.postgresql.transactional-lock=false: CONCURRENTLY waits for all open transactions,
+-- including the one that holds the default transactional migration lock, and would never finish.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subscription_user_id_status ON subscription (user_id, status);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subscription_user_id_signed ON subscription (user_id) WHERE status = 'signed';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subscription_plan_id ON subscription (plan_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_email_token_user_id ON email_token (user_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_plan_tariff_id ON plan (tariff_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_promotions_tariffs_tariff_id ON promotions_tariffs (tariff_id);
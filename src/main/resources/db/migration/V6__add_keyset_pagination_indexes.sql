@@ -0,0 +1,10 @@
+-- Composite indexes matching the sort keys of the cursor endpoints, so each slice is an index seek
+-- on `(sort_key, id) > (?, ?)` followed by an ordered scan of `size + 1` entries.
+-- Promotion tariffs are sliced by their primary key and need no extra index.
+-- Flyway runs this migration outside a transaction because every statement is CONCURRENTLY.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_plan_name_id ON plan (plan_name, plan_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tariff_name_id ON tariff (tariff_name, tariff_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_promotion_discount_percentage_id ON promotion (discount_percentage, promotion_id);
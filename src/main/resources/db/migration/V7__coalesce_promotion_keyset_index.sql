@@ -0,0 +1,7 @@
+-- The promotion discount is nullable, so promotion slices are keyed on COALESCE(discount_percentage, 0).
+-- The keyset index is rebuilt on the same expression, so each slice is still an index seek.
+-- Flyway runs this migration outside a transaction because every statement is CONCURRENTLY.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_promotion_coalesced_discount_id ON promotion ((COALESCE(discount_percentage, 0)), promotion_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_promotion_discount_percentage_id;
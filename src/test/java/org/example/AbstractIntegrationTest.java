@@ -0,0 +1,90 @@
+package org.example;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base class of the integration tests.
+ * The whole application runs against one PostgreSQL container shared by all test classes,
+ * with the schema created by the Flyway migrations.
+ * Executed statements are counted through the `datasource.query` timers of the `QueryMetricsListener`.
+ */
+@SpringBootTest
+public abstract class AbstractIntegrationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.mail.username", () -> "test");
+        registry.add("spring.mail.password", () -> "test");
+        // The lowest BCrypt strength keeps the tests fast and skips the startup calibration.
+        registry.add("security.password.bcrypt.strength", () -> 4);
+    }
+
+    /**
+     * Get the number of statements of the type executed so far. A JDBC batch counts as one statement.
+     *
+     * @param type Statement type: select, insert, update, delete or other.
+     * @return Number of executed statements.
+     */
+    protected long statementCount(String type) {
+        return meterRegistry.find("datasource.query")
+                .tag("type", type)
+                .timers()
+                .stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    /**
+     * Remove the rows created by the tests, keeping the roles and statuses seeded by the migrations.
+     * The second-level and query caches are cleared too, since they do not see writes made through JDBC.
+     */
+    protected void deleteTestData() {
+        jdbcTemplate.execute("TRUNCATE subscription, plan, promotions_tariffs, promotion, tariff, email_token, \"user\" CASCADE");
+        clearHibernateCaches();
+    }
+
+    /**
+     * Clear the second-level and query caches after rows were written through JDBC.
+     */
+    protected void clearHibernateCaches() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    /**
+     * Get the Hibernate statistics, enabled by `hibernate.generate_statistics`.
+     *
+     * @return Statistics of the session factory.
+     */
+    protected Statistics hibernateStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
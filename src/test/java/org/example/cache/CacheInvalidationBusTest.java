@@ -0,0 +1,181 @@
+package org.example.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.listener.PostgresNotificationListener;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "cache_invalidation";
+
+    private static final String NODE = "other-node";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final PostgresNotificationListener notificationListener = mock(PostgresNotificationListener.class);
+
+    @Test
+    void messagesInOrderAreAppliedWithoutFlush() {
+        Consumer<String> receiver = receiver(createBus(0));
+
+        receiver.accept(message(1, "TOKEN_VERSION", "7", 3));
+        receiver.accept(message(2, "TARIFF", "1", null));
+
+        verify(eventPublisher).publishEvent(new CacheInvalidationEvent(CacheInvalidationEvent.Type.TOKEN_VERSION, "7", 3));
+        verify(eventPublisher).publishEvent(new CacheInvalidationEvent(CacheInvalidationEvent.Type.TARIFF, "1", null));
+        verify(eventPublisher, never()).publishEvent(CacheInvalidationEvent.flushAll());
+    }
+
+    @Test
+    void reorderedMessagesWithinTimeoutDoNotFlush() {
+        CacheInvalidationBus bus = createBus(60_000);
+        Consumer<String> receiver = receiver(bus);
+
+        receiver.accept(message(1, "PLAN", "1", null));
+        receiver.accept(message(3, "PLAN", "3", null));
+        receiver.accept(message(2, "PLAN", "2", null));
+        bus.checkGaps();
+
+        verify(eventPublisher, times(3)).publishEvent(any(CacheInvalidationEvent.class));
+        verify(eventPublisher, never()).publishEvent(CacheInvalidationEvent.flushAll());
+    }
+
+    @Test
+    void missingMessageFlushesAfterTimeout() {
+        CacheInvalidationBus bus = createBus(0);
+        Consumer<String> receiver = receiver(bus);
+
+        receiver.accept(message(1, "PLAN", "1", null));
+        receiver.accept(message(3, "PLAN", "3", null));
+
+        verify(eventPublisher).publishEvent(CacheInvalidationEvent.flushAll());
+
+        // The gap is forgotten after the flush.
+        bus.checkGaps();
+        verify(eventPublisher).publishEvent(CacheInvalidationEvent.flushAll());
+    }
+
+    @Test
+    void missingMessageIsDetectedByPeriodicCheck() throws InterruptedException {
+        CacheInvalidationBus bus = createBus(50);
+        Consumer<String> receiver = receiver(bus);
+
+        receiver.accept(message(1, "PLAN", "1", null));
+        receiver.accept(message(3, "PLAN", "3", null));
+        verify(eventPublisher, never()).publishEvent(CacheInvalidationEvent.flushAll());
+
+        Thread.sleep(100);
+        bus.checkGaps();
+
+        verify(eventPublisher).publishEvent(CacheInvalidationEvent.flushAll());
+    }
+
+    @Test
+    void sequencesOfNodesAreTrackedSeparately() {
+        Consumer<String> receiver = receiver(createBus(0));
+
+        receiver.accept(message("first-node", 5, "PLAN", "1", null));
+        receiver.accept(message("second-node", 1, "PLAN", "2", null));
+        receiver.accept(message("first-node", 6, "PLAN", "3", null));
+
+        verify(eventPublisher, never()).publishEvent(CacheInvalidationEvent.flushAll());
+    }
+
+    @Test
+    void unreadableMessageFlushes() {
+        receiver(createBus(0)).accept("not json");
+
+        verify(eventPublisher).publishEvent(CacheInvalidationEvent.flushAll());
+    }
+
+    @Test
+    void reconnectFlushesAndResetsSequences() {
+        CacheInvalidationBus bus = createBus(60_000);
+        Consumer<String> receiver = receiver(bus);
+        ArgumentCaptor<Runnable> onConnect = ArgumentCaptor.forClass(Runnable.class);
+        verify(notificationListener).onConnect(onConnect.capture());
+
+        receiver.accept(message(1, "PLAN", "1", null));
+        onConnect.getValue().run();
+        receiver.accept(message(10, "PLAN", "10", null));
+        bus.checkGaps();
+
+        verify(eventPublisher, times(1)).publishEvent(CacheInvalidationEvent.flushAll());
+    }
+
+    @Test
+    void publishedMessagesCarrySequenceAndVersion() throws Exception {
+        CacheInvalidationBus bus = createBus(0);
+
+        bus.publish(CacheInvalidationEvent.Type.TOKEN_VERSION, 7, 3);
+        bus.publish(CacheInvalidationEvent.Type.TARIFF, null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<PreparedStatementCallback<Boolean>> callbacks = ArgumentCaptor.forClass(PreparedStatementCallback.class);
+        verify(jdbcTemplate, times(2)).execute(anyString(), callbacks.capture());
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        for (PreparedStatementCallback<Boolean> callback : callbacks.getAllValues()) {
+            callback.doInPreparedStatement(statement);
+        }
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(statement, atLeastOnce()).setString(eq(1), eq(CHANNEL));
+        verify(statement, times(2)).setString(eq(2), payloads.capture());
+
+        List<String> messages = payloads.getAllValues();
+        assertThat(objectMapper.readTree(messages.get(0)).get("sequence").asLong()).isEqualTo(1);
+        assertThat(objectMapper.readTree(messages.get(0)).get("version").asInt()).isEqualTo(3);
+        assertThat(objectMapper.readTree(messages.get(1)).get("sequence").asLong()).isEqualTo(2);
+        assertThat(objectMapper.readTree(messages.get(1)).get("version").isNull()).isTrue();
+    }
+
+    private CacheInvalidationBus createBus(long gapTimeoutMillis) {
+        return new CacheInvalidationBus(jdbcTemplate,
+                objectMapper,
+                eventPublisher,
+                mock(PlatformTransactionManager.class),
+                notificationListener,
+                new SimpleMeterRegistry(),
+                gapTimeoutMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<String> receiver(CacheInvalidationBus bus) {
+        ArgumentCaptor<Consumer<String>> receiver = ArgumentCaptor.forClass(Consumer.class);
+        verify(notificationListener).subscribe(eq(CHANNEL), receiver.capture());
+        return receiver.getValue();
+    }
+
+    private String message(long sequence, String type, String id, Integer version) {
+        return message(NODE, sequence, type, id, version);
+    }
+
+    private String message(String node, long sequence, String type, String id, Integer version) {
+        return "{\"node\":\"" + node + "\",\"sequence\":" + sequence + ",\"type\":\"" + type + "\",\"id\":\"" + id
+                + "\",\"version\":" + version + "}";
+    }
+}
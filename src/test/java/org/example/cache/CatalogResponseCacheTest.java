@@ -0,0 +1,97 @@
+package org.example.cache;
+
+import org.example.AbstractIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that a conditional request for a catalog page with a known ETag is answered with `304 Not Modified`
+ * without querying the database, and that the content-derived ETag survives a catalog version change.
+ */
+@AutoConfigureMockMvc
+@WithMockUser(roles = "CLIENT")
+class CatalogResponseCacheTest extends AbstractIntegrationTest {
+
+    private static final String PLANS = "/api/client/plans";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO plan (plan_name) VALUES ('Basic plan')");
+        clearHibernateCaches();
+        catalogVersion.bump();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTestData();
+        catalogVersion.bump();
+    }
+
+    @Test
+    void knownETagIsAnsweredWithoutQueries() throws Exception {
+        String eTag = mockMvc.perform(get(PLANS))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        long selectsBefore = statementCount("select");
+        mockMvc.perform(get(PLANS).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        assertThat(statementCount("select") - selectsBefore).isZero();
+    }
+
+    @Test
+    void unchangedContentKeepsETagAcrossVersions() throws Exception {
+        String eTag = mockMvc.perform(get(PLANS))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        catalogVersion.bump();
+
+        mockMvc.perform(get(PLANS).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void changedContentIsServedWithNewETag() throws Exception {
+        String eTag = mockMvc.perform(get(PLANS))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        jdbcTemplate.update("INSERT INTO plan (plan_name) VALUES ('Premium plan')");
+        clearHibernateCaches();
+        catalogVersion.bump();
+
+        String newETag = mockMvc.perform(get(PLANS).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.AbstractIntegrationTest;
+import org.example.dto.requestdto.CreateTariffRequestDTO;
+import org.example.dto.responsedto.TariffResponseDTO;
+import org.example.service.TariffService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the catalog snapshot is read without database access and is rebuilt once per committed change,
+ * before the writing request returns.
+ */
+class CatalogSnapshotTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CatalogSnapshot catalogSnapshot;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private TariffService tariffService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private int tariffId;
+
+    @BeforeEach
+    void setUp() {
+        tariffId = jdbcTemplate.queryForObject(
+                "INSERT INTO tariff (tariff_name, monthly_cost, data_limit, voice_limit) VALUES ('Basic', 10.00, 5, 300) " +
+                        "RETURNING tariff_id", Integer.class);
+        jdbcTemplate.update("INSERT INTO plan (tariff_id, plan_name) VALUES (?, 'Basic plan')", tariffId);
+        clearHibernateCaches();
+        catalogVersion.bump();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTestData();
+        catalogVersion.bump();
+    }
+
+    @Test
+    void readsDoNotQueryDatabase() {
+        long selectsBefore = statementCount("select");
+        long rebuildsBefore = rebuildCount();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(catalogSnapshot.findTariff(tariffId)).isPresent();
+            assertThat(catalogSnapshot.existsTariffName("Basic")).isTrue();
+            assertThat(catalogSnapshot.findPlansByTariff(tariffId)).hasSize(1);
+            assertThat(catalogSnapshot.existsPlanName("Basic plan")).isTrue();
+        }
+
+        assertThat(statementCount("select") - selectsBefore).isZero();
+        assertThat(rebuildCount() - rebuildsBefore).isZero();
+    }
+
+    @Test
+    void committedChangeIsPublishedOnceBeforeWriteReturns() {
+        long rebuildsBefore = rebuildCount();
+
+        TariffResponseDTO tariff = tariffService.createTariff(createRequest("Premium"));
+
+        assertThat(catalogSnapshot.findTariff(tariff.getId())).isPresent();
+        assertThat(catalogSnapshot.existsTariffName("Premium")).isTrue();
+        assertThat(rebuildCount() - rebuildsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void uncommittedChangeIsNotPublished() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            tariffService.createTariff(createRequest("Premium"));
+
+            assertThat(catalogSnapshot.existsTariffName("Premium")).isFalse();
+        });
+
+        assertThat(catalogSnapshot.existsTariffName("Premium")).isTrue();
+    }
+
+    @Test
+    void rolledBackChangeIsNotPublished() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            tariffService.createTariff(createRequest("Premium"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(catalogSnapshot.existsTariffName("Premium")).isFalse();
+    }
+
+    @Test
+    void invalidationFromAnotherInstanceRebuildsSnapshot() {
+        jdbcTemplate.update("INSERT INTO tariff (tariff_name, monthly_cost) VALUES ('Remote', 20.00)");
+
+        eventPublisher.publishEvent(new CacheInvalidationEvent(CacheInvalidationEvent.Type.TARIFF, null, null));
+
+        assertThat(catalogSnapshot.existsTariffName("Remote")).isTrue();
+    }
+
+    private CreateTariffRequestDTO createRequest(String name) {
+        return new CreateTariffRequestDTO(name, null, new BigDecimal("9.99"), 1000, 500);
+    }
+
+    private long rebuildCount() {
+        return meterRegistry.get("catalog.snapshot.rebuild").timer().count();
+    }
+}
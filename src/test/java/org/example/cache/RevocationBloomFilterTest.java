@@ -0,0 +1,80 @@
+package org.example.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationBloomFilterTest {
+
+    private static final long SLICE_SECONDS = 600;
+
+    private static final long MAX_TOKEN_LIFETIME_SECONDS = 3600;
+
+    private static final int PROBES = 200_000;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void falsePositiveRateStaysWithinTargetAtExpectedRevocations() {
+        assertFalsePositiveRate(100_000, 0.01);
+    }
+
+    @Test
+    void falsePositiveRateStaysWithinStricterTarget() {
+        assertFalsePositiveRate(50_000, 0.001);
+    }
+
+    @Test
+    void revokedTokensAreAlwaysFound() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01, SLICE_SECONDS, MAX_TOKEN_LIFETIME_SECONDS);
+        List<byte[]> revoked = revokeSpreadOverLifetime(filter, 10_000);
+
+        assertThat(revoked).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01, SLICE_SECONDS, MAX_TOKEN_LIFETIME_SECONDS);
+
+        assertThat(filter.mightContain(randomDigest())).isFalse();
+    }
+
+    private void assertFalsePositiveRate(int revocations, double targetRate) {
+        RevocationBloomFilter filter = new RevocationBloomFilter(revocations, targetRate, SLICE_SECONDS, MAX_TOKEN_LIFETIME_SECONDS);
+        revokeSpreadOverLifetime(filter, revocations);
+
+        int falsePositives = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain(randomDigest())) {
+                falsePositives++;
+            }
+        }
+
+        // The probe count gives a standard error well below half the target, so 1.5 times the target is a safe bound.
+        assertThat((double) falsePositives / PROBES).isLessThanOrEqualTo(targetRate * 1.5);
+    }
+
+    private List<byte[]> revokeSpreadOverLifetime(RevocationBloomFilter filter, int revocations) {
+        long now = System.currentTimeMillis();
+        long lifetimeMillis = TimeUnit.SECONDS.toMillis(MAX_TOKEN_LIFETIME_SECONDS);
+
+        List<byte[]> revoked = new ArrayList<>(revocations);
+        for (int i = 0; i < revocations; i++) {
+            byte[] digest = randomDigest();
+            filter.put(digest, now + 60_000 + (long) (random.nextDouble() * (lifetimeMillis - 60_000)));
+            revoked.add(digest);
+        }
+        return revoked;
+    }
+
+    private byte[] randomDigest() {
+        byte[] digest = new byte[32];
+        random.nextBytes(digest);
+        return digest;
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.pricing;
+
+import org.example.cache.CatalogSnapshot;
+import org.example.dto.responsedto.EffectivePriceResponseDTO;
+import org.example.dto.responsedto.PromotionResponseDTO;
+import org.example.dto.responsedto.TariffResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EffectivePriceEngineTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2026, 6, 1);
+
+    private static final LocalDate JUNE_30 = LocalDate.of(2026, 6, 30);
+
+    private final CatalogSnapshot catalogSnapshot = mock(CatalogSnapshot.class);
+
+    private final EffectivePriceEngine engine = new EffectivePriceEngine(catalogSnapshot);
+
+    @BeforeEach
+    void setUp() {
+        when(catalogSnapshot.version()).thenReturn(1L);
+        when(catalogSnapshot.findTariffs()).thenReturn(List.of(tariff(1, "20.00")));
+    }
+
+    @Test
+    void tariffWithoutPromotionsKeepsItsPrice() {
+        when(catalogSnapshot.findPromotionsByTariff(1)).thenReturn(List.of());
+
+        EffectivePriceResponseDTO price = priceOn(JUNE_1);
+
+        assertThat(price.getEffectivePrice()).isEqualByComparingTo("20.00");
+        assertThat(price.getDiscountPercentage()).isEqualByComparingTo("0");
+        assertThat(price.getPromotionId()).isNull();
+        assertThat(price.getValidUntil()).isNull();
+    }
+
+    @Test
+    void promotionAppliesFromStartDateToEndDateInclusive() {
+        when(catalogSnapshot.findPromotionsByTariff(1)).thenReturn(List.of(promotion(10, "25", JUNE_1, JUNE_30)));
+
+        assertThat(priceOn(JUNE_1.minusDays(1)).getEffectivePrice()).isEqualByComparingTo("20.00");
+        assertThat(priceOn(JUNE_1.minusDays(1)).getValidUntil()).isEqualTo(JUNE_1.minusDays(1));
+        assertThat(priceOn(JUNE_1).getEffectivePrice()).isEqualByComparingTo("15.00");
+        assertThat(priceOn(JUNE_30).getEffectivePrice()).isEqualByComparingTo("15.00");
+        assertThat(priceOn(JUNE_30).getValidUntil()).isEqualTo(JUNE_30);
+        assertThat(priceOn(JUNE_30.plusDays(1)).getEffectivePrice()).isEqualByComparingTo("20.00");
+        assertThat(priceOn(JUNE_30.plusDays(1)).getValidUntil()).isNull();
+    }
+
+    @Test
+    void bestOverlappingPromotionWins() {
+        when(catalogSnapshot.findPromotionsByTariff(1)).thenReturn(List.of(
+                promotion(10, "10", JUNE_1, JUNE_30),
+                promotion(11, "50", LocalDate.of(2026, 6, 10), LocalDate.of(2026, 6, 20))));
+
+        assertThat(priceOn(LocalDate.of(2026, 6, 5)).getPromotionId()).isEqualTo(10);
+        assertThat(priceOn(LocalDate.of(2026, 6, 5)).getValidUntil()).isEqualTo(LocalDate.of(2026, 6, 9));
+        assertThat(priceOn(LocalDate.of(2026, 6, 15)).getPromotionId()).isEqualTo(11);
+        assertThat(priceOn(LocalDate.of(2026, 6, 15)).getEffectivePrice()).isEqualByComparingTo("10.00");
+        assertThat(priceOn(LocalDate.of(2026, 6, 25)).getPromotionId()).isEqualTo(10);
+        assertThat(priceOn(LocalDate.of(2026, 6, 25)).getValidUntil()).isEqualTo(JUNE_30);
+    }
+
+    @Test
+    void equalDiscountsPreferLowerPromotionId() {
+        when(catalogSnapshot.findPromotionsByTariff(1)).thenReturn(List.of(
+                promotion(12, "20", JUNE_1, JUNE_30),
+                promotion(11, "20", JUNE_1, JUNE_30)));
+
+        assertThat(priceOn(JUNE_1).getPromotionId()).isEqualTo(11);
+    }
+
+    @Test
+    void openEndedAndDiscountlessPromotions() {
+        when(catalogSnapshot.findPromotionsByTariff(1)).thenReturn(List.of(
+                promotion(10, null, null, null),
+                promotion(11, "5", null, null),
+                promotion(12, "150", JUNE_1, null)));
+
+        assertThat(priceOn(JUNE_1.minusDays(1)).getPromotionId()).isEqualTo(11);
+        assertThat(priceOn(JUNE_1.minusDays(1)).getEffectivePrice()).isEqualByComparingTo("19.00");
+        // A discount above 100% does not make the price negative.
+        assertThat(priceOn(JUNE_1.plusYears(10)).getPromotionId()).isEqualTo(12);
+        assertThat(priceOn(JUNE_1.plusYears(10)).getEffectivePrice()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void priceListIsReusedUntilNextBoundary() {
+        when(catalogSnapshot.findPromotionsByTariff(1)).thenReturn(List.of(promotion(10, "25", JUNE_1, JUNE_30)));
+
+        List<EffectivePriceResponseDTO> first = engine.getEffectivePrices(JUNE_1);
+        List<EffectivePriceResponseDTO> second = engine.getEffectivePrices(JUNE_30);
+
+        assertThat(second).isSameAs(first);
+        verify(catalogSnapshot, times(1)).findPromotionsByTariff(1);
+
+        assertThat(engine.getEffectivePrices(JUNE_30.plusDays(1))).isNotSameAs(first);
+        verify(catalogSnapshot, times(1)).findPromotionsByTariff(1);
+    }
+
+    @Test
+    void newSnapshotVersionRebuildsTimelines() {
+        when(catalogSnapshot.findPromotionsByTariff(1)).thenReturn(List.of(promotion(10, "25", JUNE_1, JUNE_30)));
+        assertThat(priceOn(JUNE_1).getEffectivePrice()).isEqualByComparingTo("15.00");
+
+        when(catalogSnapshot.version()).thenReturn(2L);
+        when(catalogSnapshot.findPromotionsByTariff(1)).thenReturn(List.of(promotion(10, "50", JUNE_1, JUNE_30)));
+
+        assertThat(priceOn(JUNE_1).getEffectivePrice()).isEqualByComparingTo("10.00");
+        verify(catalogSnapshot, times(2)).findPromotionsByTariff(1);
+    }
+
+    private EffectivePriceResponseDTO priceOn(LocalDate date) {
+        return engine.getEffectivePrices(date).get(0);
+    }
+
+    private static TariffResponseDTO tariff(int id, String monthlyCost) {
+        return new TariffResponseDTO(id, "Tariff " + id, null, new BigDecimal(monthlyCost), 1000.0, 500.0);
+    }
+
+    private static PromotionResponseDTO promotion(int id, String discount, LocalDate startDate, LocalDate endDate) {
+        return new PromotionResponseDTO(id,
+                "Promotion " + id,
+                null,
+                discount != null ? new BigDecimal(discount) : null,
+                startDate,
+                endDate);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.AbstractIntegrationTest;
+import org.example.model.Role;
+import org.example.model.Status;
+import org.example.model.User;
+import org.example.util.ProviderConstantUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that new users get pooled sequence IDs and are written with JDBC batches:
+ * one `nextval` per 50 IDs and one insert statement per 50 rows.
+ */
+@Slf4j
+class UserRepositoryBatchInsertTest extends AbstractIntegrationTest {
+
+    private static final int ROWS = 1000;
+
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        deleteTestData();
+    }
+
+    @Test
+    void saveAllBatchesInserts() {
+        long insertsBefore = statementCount("insert");
+        long selectsBefore = statementCount("select");
+        long start = System.nanoTime();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Role role = entityManager.getReference(Role.class, ProviderConstantUtil.ROLE_CLIENT);
+            Status active = entityManager.getReference(Status.class, ProviderConstantUtil.USER_STATUS_ACTIVE);
+
+            List<User> users = IntStream.range(0, ROWS)
+                    .mapToObj(i -> User.builder()
+                            .username("client" + i)
+                            .password("password")
+                            .email("client" + i + "@provider.com")
+                            .phone("+37529" + (1000000 + i))
+                            .role(role)
+                            .status(active)
+                            .build())
+                    .toList();
+            userRepository.saveAll(users);
+        });
+
+        long elapsedNanos = System.nanoTime() - start;
+        long inserts = statementCount("insert") - insertsBefore;
+        long selects = statementCount("select") - selectsBefore;
+        log.info("Inserted " + ROWS + " users in " + elapsedNanos / 1_000_000 + " ms, "
+                + ROWS * 1_000_000_000L / elapsedNanos + " rows per second");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"user\"", Integer.class)).isEqualTo(ROWS);
+        assertThat(inserts).isEqualTo(ROWS / BATCH_SIZE);
+        // The pooled optimizer may fetch one extra sequence value when it is first used.
+        assertThat(selects).isLessThanOrEqualTo(ROWS / BATCH_SIZE + 1);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    void calibrateClampsShortTargetToMinimum() {
+        assertThat(BCryptStrengthCalibrator.calibrate(0, 8, 12)).isEqualTo(8);
+    }
+
+    @Test
+    void calibrateClampsLongTargetToMaximum() {
+        assertThat(BCryptStrengthCalibrator.calibrate(1_000_000_000L, 8, 12)).isEqualTo(12);
+    }
+
+    @Test
+    void calibrateStaysWithinRange() {
+        assertThat(BCryptStrengthCalibrator.calibrate(250, 10, 14)).isBetween(10, 14);
+    }
+
+    @Test
+    void calibrateReturnsFixedStrengthForSingleValueRange() {
+        assertThat(BCryptStrengthCalibrator.calibrate(250, 11, 11)).isEqualTo(11);
+    }
+
+    @Test
+    void calibrateRejectsInvalidRange() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BCryptStrengthCalibrator.calibrate(250, 3, 12));
+        assertThatIllegalArgumentException().isThrownBy(() -> BCryptStrengthCalibrator.calibrate(250, 10, 32));
+        assertThatIllegalArgumentException().isThrownBy(() -> BCryptStrengthCalibrator.calibrate(250, 12, 10));
+    }
+}
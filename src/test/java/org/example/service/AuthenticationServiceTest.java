@@ -0,0 +1,126 @@
+package org.example.service;
+
+import org.example.AbstractIntegrationTest;
+import org.example.cache.PrincipalCache;
+import org.example.util.ProviderConstantUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that a login verifies the password exactly once, in the `@ValidPassword` constraint,
+ * that `AuthenticationService` reuses the verified user, and that outdated password hashes are upgraded on login.
+ */
+@AutoConfigureMockMvc
+class AuthenticationServiceTest extends AbstractIntegrationTest {
+
+    private static final String USERNAME = "client";
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO \"user\" (username, \"password\", email, phone, role_id, status_id) " +
+                        "VALUES (?, ?, 'client@provider.com', '+375291234567', ?, ?)",
+                USERNAME,
+                passwordEncoder.encode(PASSWORD),
+                ProviderConstantUtil.ROLE_CLIENT,
+                ProviderConstantUtil.USER_STATUS_ACTIVE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTestData();
+        principalCache.evict(USERNAME);
+    }
+
+    @Test
+    void authenticateVerifiesPasswordOnce() throws Exception {
+        mockMvc.perform(post("/api/auth/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials(PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+
+        verify(passwordEncoder, times(1)).matches(any(), any());
+    }
+
+    @Test
+    void authenticateRejectsWrongPasswordAfterOneVerification() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials("wrong-password")))
+                .andReturn();
+
+        assertThat(result.getResponse().getStatus()).isNotEqualTo(200);
+        verify(passwordEncoder, times(1)).matches(any(), any());
+    }
+
+    @Test
+    void authenticateUpgradesPbkdf2Hash() throws Exception {
+        setPassword("{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode(PASSWORD));
+
+        authenticateAndExpectBcryptHash();
+    }
+
+    @Test
+    void authenticateUpgradesHashWithoutEncoderId() throws Exception {
+        setPassword(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        authenticateAndExpectBcryptHash();
+    }
+
+    private void authenticateAndExpectBcryptHash() throws Exception {
+        mockMvc.perform(post("/api/auth/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials(PASSWORD)))
+                .andExpect(status().isOk());
+
+        String password = jdbcTemplate.queryForObject("SELECT \"password\" FROM \"user\" WHERE username = ?",
+                String.class,
+                USERNAME);
+        assertThat(password).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.upgradeEncoding(password)).isFalse();
+
+        // The upgraded hash is accepted on the next login.
+        mockMvc.perform(post("/api/auth/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials(PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    private void setPassword(String password) {
+        jdbcTemplate.update("UPDATE \"user\" SET \"password\" = ? WHERE username = ?", password, USERNAME);
+        principalCache.evict(USERNAME);
+    }
+
+    private String credentials(String password) {
+        return "{\"username\":\"" + USERNAME + "\",\"password\":\"" + password + "\"}";
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.service.impl;
+
+import org.example.AbstractIntegrationTest;
+import org.example.dto.responsedto.PlanResponseDTO;
+import org.example.dto.responsedto.PromotionTariffResponseDTO;
+import org.example.dto.responsedto.TariffResponseDTO;
+import org.example.service.PlanService;
+import org.example.service.PromotionTariffService;
+import org.example.service.TariffService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the catalog pages are read with DTO projections in one joined statement,
+ * without loading entities, and that tariffs without limits are returned with `null` limits.
+ */
+class CatalogProjectionQueryTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private TariffService tariffService;
+
+    @Autowired
+    private PromotionTariffService promotionTariffService;
+
+    @BeforeEach
+    void setUp() {
+        Integer limitedTariffId = jdbcTemplate.queryForObject(
+                "INSERT INTO tariff (tariff_name, monthly_cost, data_limit, voice_limit) VALUES ('Limited', 10.00, 5, 300) " +
+                        "RETURNING tariff_id", Integer.class);
+        Integer unlimitedTariffId = jdbcTemplate.queryForObject(
+                "INSERT INTO tariff (tariff_name, monthly_cost) VALUES ('Unlimited', 30.00) RETURNING tariff_id", Integer.class);
+        Integer promotionId = jdbcTemplate.queryForObject(
+                "INSERT INTO promotion (title) VALUES ('No discount') RETURNING promotion_id", Integer.class);
+
+        jdbcTemplate.update("INSERT INTO plan (tariff_id, plan_name) VALUES (?, 'Limited plan')", limitedTariffId);
+        jdbcTemplate.update("INSERT INTO plan (tariff_id, plan_name) VALUES (?, 'Unlimited plan')", unlimitedTariffId);
+        jdbcTemplate.update("INSERT INTO plan (plan_name) VALUES ('Plan without tariff')");
+        jdbcTemplate.update("INSERT INTO promotions_tariffs (promotion_id, tariff_id) VALUES (?, ?)", promotionId, unlimitedTariffId);
+        clearHibernateCaches();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTestData();
+    }
+
+    @Test
+    void getAllPlansReadsProjectionWithNullLimits() {
+        long selectsBefore = statementCount("select");
+        long entitiesBefore = hibernateStatistics().getEntityLoadCount();
+
+        List<PlanResponseDTO> plans = planService.getAllPlans(PageRequest.of(0, 20)).getContent();
+
+        assertThat(statementCount("select") - selectsBefore).isEqualTo(1);
+        assertThat(hibernateStatistics().getEntityLoadCount() - entitiesBefore).isZero();
+        assertThat(plans).hasSize(3);
+        assertThat(plans).filteredOn(plan -> plan.getName().equals("Plan without tariff"))
+                .singleElement()
+                .satisfies(plan -> assertThat(plan.getTariff()).isNull());
+        assertThat(plans).filteredOn(plan -> plan.getName().equals("Unlimited plan"))
+                .singleElement()
+                .satisfies(plan -> assertUnlimited(plan.getTariff()));
+    }
+
+    @Test
+    void getAllTariffsReadsProjectionWithNullLimits() {
+        long selectsBefore = statementCount("select");
+        long entitiesBefore = hibernateStatistics().getEntityLoadCount();
+
+        List<TariffResponseDTO> tariffs = tariffService.getAllTariffs(PageRequest.of(0, 20)).getContent();
+
+        assertThat(statementCount("select") - selectsBefore).isEqualTo(1);
+        assertThat(hibernateStatistics().getEntityLoadCount() - entitiesBefore).isZero();
+        assertThat(tariffs).hasSize(2);
+        assertThat(tariffs).filteredOn(tariff -> tariff.getName().equals("Limited"))
+                .singleElement()
+                .satisfies(tariff -> {
+                    assertThat(tariff.getDataLimit()).isEqualTo(5.0);
+                    assertThat(tariff.getVoiceLimit()).isEqualTo(300.0);
+                });
+        assertThat(tariffs).filteredOn(tariff -> tariff.getName().equals("Unlimited"))
+                .singleElement()
+                .satisfies(this::assertUnlimited);
+    }
+
+    @Test
+    void getAllPromotionsTariffsReadsProjectionWithNullLimits() {
+        long selectsBefore = statementCount("select");
+        long entitiesBefore = hibernateStatistics().getEntityLoadCount();
+
+        List<PromotionTariffResponseDTO> promotionsTariffs = promotionTariffService.getAllPromotionsTariffs(PageRequest.of(0, 20))
+                .getContent();
+
+        assertThat(statementCount("select") - selectsBefore).isEqualTo(1);
+        assertThat(hibernateStatistics().getEntityLoadCount() - entitiesBefore).isZero();
+        assertThat(promotionsTariffs).singleElement().satisfies(promotionTariff -> {
+            assertUnlimited(promotionTariff.getTariff());
+            assertThat(promotionTariff.getPromotion().getTitle()).isEqualTo("No discount");
+            assertThat(promotionTariff.getPromotion().getDiscountPercentage()).isNull();
+        });
+    }
+
+    private void assertUnlimited(TariffResponseDTO tariff) {
+        assertThat(tariff.getName()).isEqualTo("Unlimited");
+        assertThat(tariff.getDataLimit()).isNull();
+        assertThat(tariff.getVoiceLimit()).isNull();
+    }
+}
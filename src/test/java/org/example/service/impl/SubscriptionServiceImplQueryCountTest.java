@@ -0,0 +1,108 @@
+package org.example.service.impl;
+
+import org.example.AbstractIntegrationTest;
+import org.example.dto.responsedto.SubscriptionResponseDTO;
+import org.example.service.SubscriptionService;
+import org.example.util.ProviderConstantUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that subscription reads fetch the user, role, status, plan and tariff in one statement,
+ * whatever the number of subscriptions.
+ */
+class SubscriptionServiceImplQueryCountTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @AfterEach
+    void tearDown() {
+        deleteTestData();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 10})
+    void getAllSubscriptionsRunsOneSelect(int subscriptions) {
+        createSubscriptions(subscriptions);
+
+        long before = statementCount("select");
+        List<SubscriptionResponseDTO> result = subscriptionService.getAllSubscriptions();
+        long selects = statementCount("select") - before;
+
+        assertThat(result).hasSize(subscriptions);
+        assertThat(result).allSatisfy(subscription -> {
+            assertThat(subscription.getUser().getRole()).isNotNull();
+            assertThat(subscription.getUser().getStatus()).isNotNull();
+            assertThat(subscription.getPlan().getTariff()).isNotNull();
+        });
+        assertThat(selects).isEqualTo(1);
+    }
+
+    @Test
+    void getSubscriptionByIdRunsOneSelect() {
+        int id = createSubscriptions(1).get(0);
+
+        long before = statementCount("select");
+        SubscriptionResponseDTO result = subscriptionService.getSubscriptionById(id);
+        long selects = statementCount("select") - before;
+
+        assertThat(result.getPlan().getTariff()).isNotNull();
+        assertThat(selects).isEqualTo(1);
+    }
+
+    @Test
+    void getSubscriptionByClientIdAndStatusRunsOneSelect() {
+        int id = createSubscriptions(1).get(0);
+        int userId = jdbcTemplate.queryForObject("SELECT user_id FROM subscription WHERE subscription_id = ?", Integer.class, id);
+
+        long before = statementCount("select");
+        SubscriptionResponseDTO result = subscriptionService.getSubscriptionByClientIdAndStatus(userId);
+        long selects = statementCount("select") - before;
+
+        assertThat(result.getId()).isEqualTo(id);
+        assertThat(selects).isEqualTo(1);
+    }
+
+    /**
+     * Create signed subscriptions of distinct clients to one plan.
+     *
+     * @param count Number of subscriptions.
+     * @return IDs of the created subscriptions.
+     */
+    private List<Integer> createSubscriptions(int count) {
+        Integer tariffId = jdbcTemplate.queryForObject(
+                "INSERT INTO tariff (tariff_name, monthly_cost, data_limit, voice_limit) VALUES ('Basic', 10.00, 5, 300) " +
+                        "RETURNING tariff_id", Integer.class);
+        Integer planId = jdbcTemplate.queryForObject(
+                "INSERT INTO plan (tariff_id, plan_name) VALUES (?, 'Basic plan') RETURNING plan_id", Integer.class, tariffId);
+
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Integer userId = jdbcTemplate.queryForObject(
+                            "INSERT INTO \"user\" (username, \"password\", email, phone, role_id, status_id) " +
+                                    "VALUES (?, 'password', ?, ?, ?, ?) RETURNING user_id",
+                            Integer.class,
+                            "client" + i,
+                            "client" + i + "@provider.com",
+                            "+37529" + (1000000 + i),
+                            ProviderConstantUtil.ROLE_CLIENT,
+                            ProviderConstantUtil.USER_STATUS_ACTIVE);
+                    return jdbcTemplate.queryForObject(
+                            "INSERT INTO subscription (user_id, plan_id, status) VALUES (?, ?, ?) RETURNING subscription_id",
+                            Integer.class,
+                            userId,
+                            planId,
+                            ProviderConstantUtil.SUBSCRIPTION_STATUS_SIGNED);
+                })
+                .toList();
+    }
+}